@@ -121,4 +121,21 @@ public interface ListADT<T> extends CollectionADT<T> {
    * @return the index of the first occurrence, or -1 if not found
    */
   public int indexOf(T item);
+
+  /**
+   * Returns a lazy view over the elements of the list. Stages added to the
+   * view run in a single pass when a terminal operation is called, and see
+   * the list as it is at that time. The pass covers the elements present when
+   * it starts, so a terminal that adds to the list itself still finishes.
+   * 
+   * @return a view of the list's elements
+   */
+  public default ListView<T> view() {
+    return new ListView<>(sink -> {
+      int end = size();
+      for (int i = 0; i < end; i++) {
+        if (!sink.accept(get(i))) return;
+      }
+    });
+  }
 }
@@ -0,0 +1,192 @@
+package ADTs;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A lazy, read-only pipeline over the elements of a list.
+ * Intermediate operations (filter, map, limit) only describe work; nothing
+ * runs until a terminal operation is called. All stages are then fused into a
+ * single pass over the underlying list, with no intermediate copies, and
+ * short-circuiting terminals stop that pass as soon as the answer is known.
+ *
+ * @param <T> the type of elements produced by the view
+ */
+public final class ListView<T> {
+  /**
+   * Receives the elements of a pass, one at a time.
+   *
+   * @param <T> the type of elements accepted
+   */
+  @FunctionalInterface
+  public interface Sink<T> {
+    /**
+     * Accepts the next element.
+     *
+     * @param item the element
+     * @return true to keep receiving elements, false to stop the pass
+     */
+    public boolean accept(T item);
+  }
+
+  /**
+   * Pushes elements, in list order, into a sink until the sink asks to stop.
+   *
+   * @param <T> the type of elements produced
+   */
+  @FunctionalInterface
+  public interface Source<T> {
+    /**
+     * Runs one pass over the elements.
+     *
+     * @param sink receiver for the elements
+     */
+    public void forEachUntil(Sink<? super T> sink);
+  }
+
+  private final Source<T> source;
+
+  /**
+   * Creates a view over the given source.
+   *
+   * @param source the elements to view
+   * @throws IllegalArgumentException if source is null
+   */
+  public ListView(Source<T> source) {
+    if (source == null) throw new IllegalArgumentException();
+    this.source = source;
+  }
+
+  // -------------------
+  // Intermediate Stages
+  // -------------------
+
+  /**
+   * Keeps only the elements that match the predicate.
+   *
+   * @param predicate test applied to each element
+   * @return a view of the matching elements
+   */
+  public ListView<T> filter(Predicate<? super T> predicate) {
+    if (predicate == null) throw new IllegalArgumentException();
+    return new ListView<>(sink -> this.source.forEachUntil(item -> !predicate.test(item) || sink.accept(item)));
+  }
+
+  /**
+   * Transforms each element.
+   *
+   * @param <R>    the type of the transformed elements
+   * @param mapper function applied to each element
+   * @return a view of the transformed elements
+   */
+  public <R> ListView<R> map(Function<? super T, ? extends R> mapper) {
+    if (mapper == null) throw new IllegalArgumentException();
+    return new ListView<>(sink -> this.source.forEachUntil(item -> sink.accept(mapper.apply(item))));
+  }
+
+  /**
+   * Keeps at most the first n elements. The pass over the list stops once n
+   * elements have been produced.
+   *
+   * @param n maximum number of elements
+   * @return a view of at most n elements
+   * @throws IllegalArgumentException if n is negative
+   */
+  public ListView<T> limit(int n) {
+    if (n < 0) throw new IllegalArgumentException();
+    return new ListView<>(sink -> {
+      if (n == 0) return;
+      int[] produced = { 0 };
+      this.source.forEachUntil(item -> sink.accept(item) && ++produced[0] < n);
+    });
+  }
+
+  // -------------------
+  // Terminal Operations
+  // -------------------
+
+  /**
+   * Runs the pipeline, passing every element to the action.
+   *
+   * @param action the action to perform on each element
+   */
+  public void forEach(Consumer<? super T> action) {
+    if (action == null) throw new IllegalArgumentException();
+    this.source.forEachUntil(item -> {
+      action.accept(item);
+      return true;
+    });
+  }
+
+  /**
+   * Runs the pipeline, appending every element to the target list.
+   *
+   * @param <L>    the type of the target list
+   * @param target list to append to
+   * @return the target list
+   */
+  public <L extends ListADT<? super T>> L collect(L target) {
+    if (target == null) throw new IllegalArgumentException();
+    forEach(target::addLast);
+    return target;
+  }
+
+  /**
+   * Counts the elements produced by the pipeline.
+   *
+   * @return the number of elements
+   */
+  public int count() {
+    int[] count = { 0 };
+    forEach(item -> count[0]++);
+    return count[0];
+  }
+
+  /**
+   * Returns the first element, stopping the pass immediately.
+   *
+   * @return the first element
+   * @throws NoSuchElementException if the view is empty
+   */
+  public T first() {
+    Object[] found = new Object[1];
+    boolean[] present = { false };
+    this.source.forEachUntil(item -> {
+      found[0] = item;
+      present[0] = true;
+      return false;
+    });
+    if (!present[0]) throw new NoSuchElementException();
+    @SuppressWarnings("unchecked")
+    T first = (T) found[0];
+    return first;
+  }
+
+  /**
+   * Checks whether any element matches the predicate, stopping at the first
+   * match.
+   *
+   * @param predicate test applied to each element
+   * @return true if some element matches
+   */
+  public boolean anyMatch(Predicate<? super T> predicate) {
+    if (predicate == null) throw new IllegalArgumentException();
+    boolean[] matched = { false };
+    this.source.forEachUntil(item -> !(matched[0] = predicate.test(item)));
+    return matched[0];
+  }
+
+  /**
+   * Checks whether the view produces the given element, stopping at the
+   * first occurrence.
+   *
+   * @param item element to search for
+   * @return true if the element is found
+   */
+  public boolean contains(T item) {
+    return anyMatch(other -> Objects.equals(item, other));
+  }
+}
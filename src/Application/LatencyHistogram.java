@@ -0,0 +1,91 @@
+package Application;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size latency histogram in the style of HdrHistogram.
+ * <p>
+ * Values below 64 get their own bucket; above that, every power of two is
+ * split into 64 equal sub-buckets, so any recorded value is reported to
+ * within about 1.6% across the whole {@code long} range. Recording is a few
+ * bit operations and an array increment, with no allocation.
+ */
+public class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 6;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int SUB_BUCKET_MASK = SUB_BUCKETS - 1;
+
+  private final long[] counts = new long[(64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS];
+  private long total;
+  private long sum;
+  private long min = Long.MAX_VALUE;
+  private long max;
+
+  /**
+   * Records one value.
+   *
+   * @param value the value, typically nanoseconds; negative values count as 0
+   */
+  public void record(long value) {
+    if (value < 0) value = 0;
+    this.counts[bucketOf(value)]++;
+    this.total++;
+    this.sum += value;
+    if (value < this.min) this.min = value;
+    if (value > this.max) this.max = value;
+  }
+
+  private static int bucketOf(long value) {
+    if (value < SUB_BUCKETS) return (int) value;
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    int sub = (int) (value >>> shift) & SUB_BUCKET_MASK;
+    return ((shift + 1) << SUB_BUCKET_BITS) + sub;
+  }
+
+  private static long lowestValueIn(int bucket) {
+    int block = bucket >>> SUB_BUCKET_BITS;
+    int sub = bucket & SUB_BUCKET_MASK;
+    if (block == 0) return sub;
+    return ((long) (SUB_BUCKETS | sub)) << (block - 1);
+  }
+
+  /**
+   * @param percentile value between 0 and 100
+   * @return the smallest recorded bucket value at or above that percentile,
+   *         or 0 if nothing was recorded
+   */
+  public long valueAtPercentile(double percentile) {
+    if (this.total == 0) return 0;
+    long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * this.total));
+    long seen = 0;
+    for (int bucket = 0; bucket < this.counts.length; bucket++) {
+      seen += this.counts[bucket];
+      if (seen >= target) return Math.min(Math.max(lowestValueIn(bucket), this.min), this.max);
+    }
+    return this.max;
+  }
+
+  public long count() {
+    return this.total;
+  }
+
+  public long min() {
+    return (this.total == 0) ? 0 : this.min;
+  }
+
+  public long max() {
+    return this.max;
+  }
+
+  public double mean() {
+    return (this.total == 0) ? 0.0 : (double) this.sum / this.total;
+  }
+
+  public void reset() {
+    Arrays.fill(this.counts, 0);
+    this.total = 0;
+    this.sum = 0;
+    this.min = Long.MAX_VALUE;
+    this.max = 0;
+  }
+}
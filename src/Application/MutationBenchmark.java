@@ -0,0 +1,114 @@
+package Application;
+
+import ADTs.ListADT;
+import DataStructures.ArrayList;
+import DataStructures.UnrolledLinkedList;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Compares list implementations on a random-position mutation trace:
+ * inserts, removals and reads at uniformly random indices, and on a plain
+ * sequential fill with {@code addLast}.
+ * <p>
+ * Usage: {@code MutationBenchmark [initialSize] [operations] [seed] [appends]}
+ */
+public class MutationBenchmark {
+  private static final int WARMUP_ROUNDS = 3;
+  private static final int MEASURED_ROUNDS = 5;
+
+  // Operation codes of the pre-generated trace
+  private static final int INSERT = 0;
+  private static final int REMOVE = 1;
+  private static final int GET = 2;
+
+  public static void main(String[] args) {
+    int initialSize = (args.length > 0) ? Integer.parseInt(args[0]) : 100_000;
+    int operations = (args.length > 1) ? Integer.parseInt(args[1]) : 100_000;
+    long seed = (args.length > 2) ? Long.parseLong(args[2]) : 42L;
+    int appends = (args.length > 3) ? Integer.parseInt(args[3]) : 1_000_000;
+
+    // Generate the trace once so every implementation replays identical work.
+    // Indices are drawn against the size the list will have at that point.
+    int[] ops = new int[operations];
+    int[] positions = new int[operations];
+    Random random = new Random(seed);
+    int size = initialSize;
+    for (int i = 0; i < operations; i++) {
+      int roll = random.nextInt(3);
+      if (roll == INSERT || size == 0) {
+        ops[i] = INSERT;
+        positions[i] = random.nextInt(size + 1);
+        size++;
+      } else if (roll == REMOVE) {
+        ops[i] = REMOVE;
+        positions[i] = random.nextInt(size);
+        size--;
+      } else {
+        ops[i] = GET;
+        positions[i] = random.nextInt(size);
+      }
+    }
+
+    System.out.println("===== Random-Position Mutation Benchmark =====");
+    System.out.println("Initial size: " + initialSize + ", operations: " + operations + ", seed: " + seed);
+    run("ArrayList", ArrayList::new, initialSize, ops, positions);
+    run("UnrolledLinkedList", UnrolledLinkedList::new, initialSize, ops, positions);
+
+    System.out.println();
+    System.out.println("===== Sequential Append Benchmark =====");
+    System.out.println("Appends: " + appends);
+    runAppends("ArrayList", ArrayList::new, appends);
+    runAppends("UnrolledLinkedList", UnrolledLinkedList::new, appends);
+  }
+
+  private static void runAppends(String name, Supplier<ListADT<Integer>> factory, int appends) {
+    long checksum = 0;
+    for (int round = 0; round < WARMUP_ROUNDS; round++) {
+      checksum += fill(factory.get(), appends).size();
+    }
+    long best = Long.MAX_VALUE;
+    for (int round = 0; round < MEASURED_ROUNDS; round++) {
+      long start = System.nanoTime();
+      checksum += fill(factory.get(), appends).size();
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    double opsPerSecond = appends / (best / 1e9);
+    System.out.printf("%-20s best %8.2f ms  %,14.0f ops/s  (checksum %d)%n", name, best / 1e6, opsPerSecond, checksum);
+  }
+
+  private static void run(String name, Supplier<ListADT<Integer>> factory, int initialSize, int[] ops, int[] positions) {
+    long checksum = 0;
+    for (int round = 0; round < WARMUP_ROUNDS; round++) {
+      checksum += replay(fill(factory.get(), initialSize), ops, positions);
+    }
+    long best = Long.MAX_VALUE;
+    for (int round = 0; round < MEASURED_ROUNDS; round++) {
+      ListADT<Integer> list = fill(factory.get(), initialSize);
+      long start = System.nanoTime();
+      checksum += replay(list, ops, positions);
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    double opsPerSecond = ops.length / (best / 1e9);
+    System.out.printf("%-20s best %8.2f ms  %,14.0f ops/s  (checksum %d)%n", name, best / 1e6, opsPerSecond, checksum);
+  }
+
+  private static ListADT<Integer> fill(ListADT<Integer> list, int initialSize) {
+    for (int i = 0; i < initialSize; i++) {
+      list.addLast(i);
+    }
+    return list;
+  }
+
+  private static long replay(ListADT<Integer> list, int[] ops, int[] positions) {
+    long checksum = 0;
+    for (int i = 0; i < ops.length; i++) {
+      switch (ops[i]) {
+        case INSERT -> list.add(positions[i], i);
+        case REMOVE -> checksum += list.remove(positions[i]);
+        default -> checksum += list.get(positions[i]);
+      }
+    }
+    return checksum + list.size();
+  }
+}
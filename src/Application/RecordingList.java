@@ -0,0 +1,216 @@
+package Application;
+
+import ADTs.ListADT;
+import ADTs.ListView;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A {@link ListADT} decorator that logs every call to a binary trace before
+ * passing it on to the wrapped list. The trace can later be replayed against
+ * any implementation with {@link TraceReplay}.
+ * <p>
+ * Elements are recorded by hash code (null as 0), which is enough to
+ * reproduce the access pattern without serializing the elements themselves.
+ * Operations are recorded even if the wrapped list then throws, so the trace
+ * reflects what the caller attempted. {@link #view()} is passed through
+ * without being recorded.
+ *
+ * @param <T> the type of elements in the list
+ */
+public class RecordingList<T> implements ListADT<T>, Closeable {
+  private final ListADT<T> delegate;
+  private final DataOutputStream out;
+
+  /**
+   * Starts recording to a new trace file.
+   *
+   * @param delegate the list that performs the operations
+   * @param file     trace file to create or overwrite
+   * @throws IOException if the file cannot be opened
+   * @throws IllegalArgumentException if delegate or file is null
+   */
+  public RecordingList(ListADT<T> delegate, Path file) throws IOException {
+    this(delegate, open(delegate, file));
+  }
+
+  // Validates before opening, so a rejected call neither leaks a stream nor truncates the file
+  private static OutputStream open(ListADT<?> delegate, Path file) throws IOException {
+    if (delegate == null || file == null) throw new IllegalArgumentException();
+    return Files.newOutputStream(file);
+  }
+
+  /**
+   * Starts recording to a stream. The stream is closed by {@link #close()}.
+   *
+   * @param delegate the list that performs the operations
+   * @param out      destination of the trace
+   * @throws IOException if the trace header cannot be written
+   */
+  public RecordingList(ListADT<T> delegate, OutputStream out) throws IOException {
+    if (delegate == null || out == null) throw new IllegalArgumentException();
+    this.delegate = delegate;
+    this.out = new DataOutputStream(new BufferedOutputStream(out));
+    Trace.writeHeader(this.out);
+  }
+
+  // ---------------------------
+  // Private Helpers: recording
+  // ---------------------------
+  private void record(int op) {
+    try {
+      this.out.writeByte(op);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void record(int op, int a) {
+    try {
+      this.out.writeByte(op);
+      Trace.writeVarInt(this.out, a);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void record(int op, int a, int b) {
+    try {
+      this.out.writeByte(op);
+      Trace.writeVarInt(this.out, a);
+      Trace.writeVarInt(this.out, b);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static int value(Object item) {
+    return (item == null) ? 0 : item.hashCode();
+  }
+
+  // -------------------
+  // ListADT
+  // -------------------
+  @Override
+  public void add(int index, T item) {
+    record(Trace.ADD, index, value(item));
+    this.delegate.add(index, item);
+  }
+
+  @Override
+  public void addFirst(T item) {
+    record(Trace.ADD_FIRST, value(item));
+    this.delegate.addFirst(item);
+  }
+
+  @Override
+  public void addLast(T item) {
+    record(Trace.ADD_LAST, value(item));
+    this.delegate.addLast(item);
+  }
+
+  @Override
+  public boolean addAfter(T existing, T item) {
+    record(Trace.ADD_AFTER, value(existing), value(item));
+    return this.delegate.addAfter(existing, item);
+  }
+
+  @Override
+  public T removeFirst() {
+    record(Trace.REMOVE_FIRST);
+    return this.delegate.removeFirst();
+  }
+
+  @Override
+  public T removeLast() {
+    record(Trace.REMOVE_LAST);
+    return this.delegate.removeLast();
+  }
+
+  @Override
+  public T remove(int index) {
+    record(Trace.REMOVE_AT, index);
+    return this.delegate.remove(index);
+  }
+
+  @Override
+  public boolean remove(T item) {
+    record(Trace.REMOVE_ITEM, value(item));
+    return this.delegate.remove(item);
+  }
+
+  @Override
+  public T first() {
+    record(Trace.FIRST);
+    return this.delegate.first();
+  }
+
+  @Override
+  public T last() {
+    record(Trace.LAST);
+    return this.delegate.last();
+  }
+
+  @Override
+  public T get(int index) {
+    record(Trace.GET, index);
+    return this.delegate.get(index);
+  }
+
+  @Override
+  public T set(int index, T item) {
+    record(Trace.SET, index, value(item));
+    return this.delegate.set(index, item);
+  }
+
+  @Override
+  public int indexOf(T item) {
+    record(Trace.INDEX_OF, value(item));
+    return this.delegate.indexOf(item);
+  }
+
+  @Override
+  public boolean contains(T item) {
+    record(Trace.CONTAINS, value(item));
+    return this.delegate.contains(item);
+  }
+
+  @Override
+  public void clear() {
+    record(Trace.CLEAR);
+    this.delegate.clear();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    record(Trace.IS_EMPTY);
+    return this.delegate.isEmpty();
+  }
+
+  @Override
+  public int size() {
+    record(Trace.SIZE);
+    return this.delegate.size();
+  }
+
+  @Override
+  public ListView<T> view() {
+    return this.delegate.view();
+  }
+
+  /**
+   * Flushes and closes the trace. The wrapped list stays usable.
+   *
+   * @throws IOException if the trace cannot be written
+   */
+  @Override
+  public void close() throws IOException {
+    this.out.close();
+  }
+}
@@ -0,0 +1,276 @@
+package Application;
+
+import ADTs.ListADT;
+import DataStructures.ArrayList;
+import DataStructures.SmallList;
+import DataStructures.UnrolledLinkedList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Drives a shared {@link ListADT} from many concurrent tasks and checks that
+ * no updates were lost.
+ * <p>
+ * Every task performs a mix of reads ({@code size}, {@code get}, {@code last})
+ * and writes ({@code addLast} of a value unique to the task and operation,
+ * {@code removeLast}). Afterwards the harness checks that:
+ * <ul>
+ * <li>the final size equals successful adds minus successful removes,</li>
+ * <li>every added value was either removed exactly once or is still in the
+ * list exactly once, and nothing else is in the list,</li>
+ * <li>no operation failed with anything other than the exceptions a racing
+ * but correct list can legitimately throw (an index that went stale, or an
+ * empty list).</li>
+ * </ul>
+ * Throughput is measured on fixed pools of 1, 2, 4, ... up to the number of
+ * cores, followed by one run on virtual threads (one per task) when the JVM
+ * supports them. On Java 17 that last run falls back to a platform pool.
+ * A run whose tasks have not all finished after {@value #RUN_TIMEOUT_SECONDS}
+ * seconds (a deadlocked or livelocked list) is abandoned and reported as a
+ * violation.
+ * <p>
+ * Usage:
+ * {@code StressHarness [implementation] [tasks] [opsPerTask] [writePercent]}
+ * where implementation is one of arraylist, unrolled or small, optionally
+ * prefixed with {@code sync-} to guard it with a {@link SynchronizedList}.
+ */
+public class StressHarness {
+  private static final int REPEATS = 3;
+  private static final int RUN_TIMEOUT_SECONDS = 60;
+
+  private static Supplier<ListADT<Integer>> factoryFor(String name) {
+    if (name.startsWith("sync-")) {
+      Supplier<ListADT<Integer>> inner = factoryFor(name.substring("sync-".length()));
+      return () -> new SynchronizedList<>(inner.get());
+    }
+    return switch (name) {
+      case "arraylist" -> ArrayList::new;
+      case "unrolled" -> UnrolledLinkedList::new;
+      case "small" -> SmallList::new;
+      default -> throw new IllegalArgumentException("Unknown implementation '" + name + "'");
+    };
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    String name = (args.length > 0) ? args[0] : "sync-arraylist";
+    int tasks = (args.length > 1) ? Integer.parseInt(args[1]) : 2_000;
+    int opsPerTask = (args.length > 2) ? Integer.parseInt(args[2]) : 500;
+    int writePercent = (args.length > 3) ? Integer.parseInt(args[3]) : 50;
+    if ((long) tasks * opsPerTask > Integer.MAX_VALUE) throw new IllegalArgumentException("Too many operations");
+    if (writePercent < 0 || writePercent > 100) throw new IllegalArgumentException("writePercent must be between 0 and 100");
+    Supplier<ListADT<Integer>> factory = factoryFor(name);
+    int cores = Runtime.getRuntime().availableProcessors();
+
+    System.out.println("===== Concurrency Stress: " + name + " =====");
+    System.out.println("Tasks: " + tasks + ", ops/task: " + opsPerTask + ", writes: " + writePercent + "%, cores: " + cores);
+    System.out.printf("%-10s %16s %9s  %s%n", "threads", "ops/s", "speedup", "result");
+
+    double baseline = 0;
+    for (int threads = 1; ; threads = Math.min(threads * 2, cores)) {
+      int poolSize = threads;
+      Result result = bestOf(factory, tasks, opsPerTask, writePercent, () -> fixedPool(poolSize));
+      if (threads == 1) baseline = result.opsPerSecond;
+      print(String.valueOf(threads), result, baseline);
+      if (threads == cores) break;
+    }
+
+    Supplier<ExecutorService> virtual = virtualThreadExecutor();
+    if (virtual != null) {
+      print("virtual", bestOf(factory, tasks, opsPerTask, writePercent, virtual), baseline);
+    } else {
+      System.out.println("(virtual threads need Java 21+; running one task per platform thread, capped at 256)");
+      int threads = Math.min(tasks, 256);
+      print("platform", bestOf(factory, tasks, opsPerTask, writePercent, () -> fixedPool(threads)), baseline);
+    }
+  }
+
+  // Daemon threads, so the workers of an abandoned run cannot keep the JVM alive
+  private static ExecutorService fixedPool(int threads) {
+    return Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable);
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  private static void print(String label, Result result, double baseline) {
+    String verdict = (result.violations == 0) ? "ok" : result.violations + " violations, e.g. " + result.firstViolation;
+    // No speedup when the single-threaded run timed out and has no throughput to compare against
+    String speedup = (baseline > 0) ? String.format("%8.2fx", result.opsPerSecond / baseline) : String.format("%9s", "n/a");
+    System.out.printf("%-10s %,16.0f %s  %s%n", label, result.opsPerSecond, speedup, verdict);
+  }
+
+  // Returns the fastest of a few runs; violations from any run are kept
+  private static Result bestOf(Supplier<ListADT<Integer>> factory, int tasks, int opsPerTask, int writePercent,
+      Supplier<ExecutorService> executors) throws InterruptedException {
+    Result best = null;
+    for (int i = 0; i < REPEATS; i++) {
+      Result result = run(factory.get(), tasks, opsPerTask, writePercent, executors.get());
+      if (best == null || result.violations > 0 || (best.violations == 0 && result.opsPerSecond > best.opsPerSecond)) {
+        best = result;
+      }
+      if (best.violations > 0) break;
+    }
+    return best;
+  }
+
+  // -------------------
+  // One Run
+  // -------------------
+  // Package-private so the invariant checks can be tested against deliberately broken lists
+  static final class Result {
+    double opsPerSecond;
+    long violations;
+    String firstViolation;
+
+    void violation(String description) {
+      if (this.violations++ == 0) this.firstViolation = description;
+    }
+  }
+
+  static Result run(ListADT<Integer> list, int tasks, int opsPerTask, int writePercent,
+      ExecutorService executor) throws InterruptedException {
+    boolean[] added = new boolean[tasks * opsPerTask]; // each slot is written by exactly one task
+    int[][] removedByTask = new int[tasks][];
+    int[] removedCounts = new int[tasks];
+    AtomicLong unexpected = new AtomicLong();
+    String[] firstUnexpected = new String[1];
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(tasks);
+
+    for (int t = 0; t < tasks; t++) {
+      int task = t;
+      executor.execute(() -> {
+        int[] removed = new int[opsPerTask];
+        int removedCount = 0;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+          start.await();
+          for (int i = 0; i < opsPerTask; i++) {
+            int roll = random.nextInt(100);
+            try {
+              if (roll < writePercent / 2 + writePercent % 2) {
+                int value = task * opsPerTask + i;
+                list.addLast(value);
+                added[value] = true;
+              } else if (roll < writePercent) {
+                Integer value = list.removeLast();
+                removed[removedCount++] = (value == null) ? -1 : value;
+              } else if (roll % 2 == 0) {
+                int size = list.size();
+                if (size > 0) list.get(random.nextInt(size));
+              } else {
+                list.last();
+              }
+            } catch (IndexOutOfBoundsException | NoSuchElementException e) {
+              // A concurrent writer changed the list between our calls; not a bug in the list
+              if (e instanceof ArrayIndexOutOfBoundsException) recordUnexpected(unexpected, firstUnexpected, e);
+            } catch (RuntimeException e) {
+              recordUnexpected(unexpected, firstUnexpected, e);
+            }
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          removedByTask[task] = removed;
+          removedCounts[task] = removedCount;
+          done.countDown();
+        }
+      });
+    }
+
+    long begin = System.nanoTime();
+    start.countDown();
+    boolean finished = done.await(RUN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    long elapsed = System.nanoTime() - begin;
+
+    Result result = new Result();
+    if (!finished) {
+      // The list's state is unknown while tasks are still running, so skip the invariant checks
+      executor.shutdownNow();
+      result.violation("timed out after " + RUN_TIMEOUT_SECONDS + "s with " + done.getCount() + " of " + tasks
+          + " tasks unfinished");
+      return result;
+    }
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+
+    result.opsPerSecond = (double) tasks * opsPerTask / (elapsed / 1e9);
+    if (unexpected.get() > 0) {
+      result.violation("unexpected " + firstUnexpected[0]);
+      result.violations += unexpected.get() - 1;
+    }
+    verify(list, added, removedByTask, removedCounts, result);
+    return result;
+  }
+
+  private static void recordUnexpected(AtomicLong unexpected, String[] first, RuntimeException e) {
+    if (unexpected.getAndIncrement() == 0) first[0] = e.toString();
+  }
+
+  // -------------------
+  // Invariants
+  // -------------------
+  private static void verify(ListADT<Integer> list, boolean[] added, int[][] removedByTask, int[] removedCounts,
+      Result result) {
+    byte[] seen = new byte[added.length];
+    long addCount = 0;
+    for (boolean a : added) {
+      if (a) addCount++;
+    }
+    long removeCount = 0;
+    for (int t = 0; t < removedByTask.length; t++) {
+      for (int i = 0; i < removedCounts[t]; i++) {
+        see(removedByTask[t][i], added, seen, result);
+      }
+      removeCount += removedCounts[t];
+    }
+    int size = list.size();
+    if (size != addCount - removeCount) {
+      result.violation("size " + size + " != " + addCount + " adds - " + removeCount + " removes");
+    }
+    for (int i = 0; i < size; i++) {
+      Integer value;
+      try {
+        value = list.get(i);
+      } catch (RuntimeException e) {
+        result.violation("final contents unreadable: " + e);
+        return;
+      }
+      see((value == null) ? -1 : value, added, seen, result);
+    }
+    for (int v = 0; v < added.length; v++) {
+      if (added[v] && seen[v] == 0) result.violation("addLast(" + v + ") was lost");
+    }
+  }
+
+  private static void see(int value, boolean[] added, byte[] seen, Result result) {
+    if (value < 0 || value >= added.length || !added[value]) {
+      result.violation("unexpected element " + value);
+    } else if (seen[value]++ > 0) {
+      result.violation("element " + value + " seen twice");
+    }
+  }
+
+  // Executors.newVirtualThreadPerTaskExecutor() exists from Java 21; look it up so this still builds on 17
+  private static Supplier<ExecutorService> virtualThreadExecutor() {
+    try {
+      java.lang.reflect.Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return () -> {
+        try {
+          return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+          throw new IllegalStateException(e);
+        }
+      };
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package Application;
+
+import ADTs.ListADT;
+import ADTs.ListView;
+
+/**
+ * A {@link ListADT} decorator that makes every call atomic by synchronizing
+ * on the wrapper. Compound actions (such as {@code size()} followed by
+ * {@code get()}) and running a {@link #view()} still need the caller to hold
+ * the wrapper's monitor.
+ *
+ * @param <T> the type of elements in the list
+ */
+public class SynchronizedList<T> implements ListADT<T> {
+  private final ListADT<T> delegate;
+
+  /**
+   * @param delegate the list to guard; it must not be used directly afterwards
+   * @throws IllegalArgumentException if delegate is null
+   */
+  public SynchronizedList(ListADT<T> delegate) {
+    if (delegate == null) throw new IllegalArgumentException();
+    this.delegate = delegate;
+  }
+
+  @Override
+  public synchronized void add(int index, T item) {
+    this.delegate.add(index, item);
+  }
+
+  @Override
+  public synchronized void addFirst(T item) {
+    this.delegate.addFirst(item);
+  }
+
+  @Override
+  public synchronized void addLast(T item) {
+    this.delegate.addLast(item);
+  }
+
+  @Override
+  public synchronized boolean addAfter(T existing, T item) {
+    return this.delegate.addAfter(existing, item);
+  }
+
+  @Override
+  public synchronized T removeFirst() {
+    return this.delegate.removeFirst();
+  }
+
+  @Override
+  public synchronized T removeLast() {
+    return this.delegate.removeLast();
+  }
+
+  @Override
+  public synchronized T remove(int index) {
+    return this.delegate.remove(index);
+  }
+
+  @Override
+  public synchronized boolean remove(T item) {
+    return this.delegate.remove(item);
+  }
+
+  @Override
+  public synchronized T first() {
+    return this.delegate.first();
+  }
+
+  @Override
+  public synchronized T last() {
+    return this.delegate.last();
+  }
+
+  @Override
+  public synchronized T get(int index) {
+    return this.delegate.get(index);
+  }
+
+  @Override
+  public synchronized T set(int index, T item) {
+    return this.delegate.set(index, item);
+  }
+
+  @Override
+  public synchronized int indexOf(T item) {
+    return this.delegate.indexOf(item);
+  }
+
+  @Override
+  public synchronized boolean contains(T item) {
+    return this.delegate.contains(item);
+  }
+
+  @Override
+  public synchronized void clear() {
+    this.delegate.clear();
+  }
+
+  @Override
+  public synchronized boolean isEmpty() {
+    return this.delegate.isEmpty();
+  }
+
+  @Override
+  public synchronized int size() {
+    return this.delegate.size();
+  }
+
+  @Override
+  public ListView<T> view() {
+    return this.delegate.view();
+  }
+}
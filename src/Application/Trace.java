@@ -0,0 +1,153 @@
+package Application;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A decoded list operation trace, plus the binary format shared with
+ * {@link RecordingList}.
+ * <p>
+ * A trace file starts with the magic bytes {@code LTRC} and a version byte,
+ * followed by one record per operation: an opcode byte and zero, one or two
+ * zigzag-encoded varint arguments (an index and/or an element value). Element
+ * values are the elements' hash codes, so a replay sees the same pattern of
+ * equal and distinct elements as the recorded run.
+ */
+public class Trace {
+  static final byte[] MAGIC = { 'L', 'T', 'R', 'C' };
+  static final int VERSION = 1;
+
+  // Opcodes; arguments in parentheses
+  public static final int ADD = 1; // (index, value)
+  public static final int ADD_FIRST = 2; // (value)
+  public static final int ADD_LAST = 3; // (value)
+  public static final int ADD_AFTER = 4; // (existing, value)
+  public static final int REMOVE_FIRST = 5;
+  public static final int REMOVE_LAST = 6;
+  public static final int REMOVE_AT = 7; // (index)
+  public static final int REMOVE_ITEM = 8; // (value)
+  public static final int FIRST = 9;
+  public static final int LAST = 10;
+  public static final int GET = 11; // (index)
+  public static final int SET = 12; // (index, value)
+  public static final int INDEX_OF = 13; // (value)
+  public static final int CONTAINS = 14; // (value)
+  public static final int CLEAR = 15;
+  public static final int IS_EMPTY = 16;
+  public static final int SIZE = 17;
+
+  private static final int[] ARGUMENTS = { 0, 2, 1, 1, 2, 0, 0, 1, 1, 0, 0, 1, 2, 1, 1, 0, 0, 0 };
+
+  private int[] ops = new int[64];
+  private int[] first = new int[64];
+  private int[] second = new int[64];
+  private int length;
+
+  /** @return number of operations in the trace */
+  public int length() {
+    return this.length;
+  }
+
+  /** @return opcode of operation i */
+  public int op(int i) {
+    return this.ops[i];
+  }
+
+  /** @return first argument of operation i, or 0 if it has none */
+  public int first(int i) {
+    return this.first[i];
+  }
+
+  /** @return second argument of operation i, or 0 if it has none */
+  public int second(int i) {
+    return this.second[i];
+  }
+
+  static int argumentCount(int op) {
+    if (op < ADD || op > SIZE) throw new IllegalArgumentException("Unknown opcode " + op);
+    return ARGUMENTS[op];
+  }
+
+  // -------------------
+  // Encoding
+  // -------------------
+  static void writeHeader(DataOutputStream out) throws IOException {
+    out.write(MAGIC);
+    out.writeByte(VERSION);
+  }
+
+  static void writeVarInt(DataOutputStream out, int value) throws IOException {
+    int zigzag = (value << 1) ^ (value >> 31);
+    while ((zigzag & ~0x7F) != 0) {
+      out.writeByte((zigzag & 0x7F) | 0x80);
+      zigzag >>>= 7;
+    }
+    out.writeByte(zigzag);
+  }
+
+  private static int readVarInt(InputStream in) throws IOException {
+    int zigzag = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      int b = in.read();
+      if (b < 0) throw new EOFException("Truncated trace record");
+      zigzag |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+    throw new IOException("Malformed varint in trace");
+  }
+
+  // -------------------
+  // Decoding
+  // -------------------
+
+  /**
+   * Reads a whole trace file into memory so that replaying it does no I/O.
+   *
+   * @param file trace written by a {@link RecordingList}
+   * @return the decoded trace
+   * @throws IOException if the file cannot be read or is not a trace
+   */
+  public static Trace read(Path file) throws IOException {
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+      DataInputStream data = new DataInputStream(in);
+      byte[] magic = new byte[MAGIC.length];
+      data.readFully(magic);
+      if (!Arrays.equals(magic, MAGIC) || data.readUnsignedByte() != VERSION) {
+        throw new IOException("Not a list trace: " + file);
+      }
+      Trace trace = new Trace();
+      int op;
+      while ((op = in.read()) >= 0) {
+        int count;
+        try {
+          count = argumentCount(op);
+        } catch (IllegalArgumentException e) {
+          throw new IOException(e.getMessage());
+        }
+        int a = (count > 0) ? readVarInt(in) : 0;
+        int b = (count > 1) ? readVarInt(in) : 0;
+        trace.append(op, a, b);
+      }
+      return trace;
+    }
+  }
+
+  private void append(int op, int a, int b) {
+    if (this.length == this.ops.length) {
+      this.ops = Arrays.copyOf(this.ops, this.length * 2);
+      this.first = Arrays.copyOf(this.first, this.length * 2);
+      this.second = Arrays.copyOf(this.second, this.length * 2);
+    }
+    this.ops[this.length] = op;
+    this.first[this.length] = a;
+    this.second[this.length] = b;
+    this.length++;
+  }
+}
@@ -0,0 +1,190 @@
+package Application;
+
+import ADTs.ListADT;
+import DataStructures.ArrayList;
+import DataStructures.SmallList;
+import DataStructures.UnrolledLinkedList;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Replays a recorded list trace against one or more {@link ListADT}
+ * implementations and reports throughput, per-operation latency and
+ * allocation.
+ * <p>
+ * Usage:
+ * <pre>
+ * TraceReplay replay &lt;trace-file&gt; [implementation|all] [warmupRounds] [measuredRounds]
+ * TraceReplay record &lt;trace-file&gt; [operations] [seed]
+ * </pre>
+ * {@code record} writes a synthetic mixed workload through a
+ * {@link RecordingList}, which is handy for trying the replay side out.
+ */
+public class TraceReplay {
+  private static final String[] IMPLEMENTATIONS = { "arraylist", "unrolled", "small" };
+
+  private static Supplier<ListADT<Integer>> factoryFor(String name) {
+    return switch (name) {
+      case "arraylist" -> ArrayList::new;
+      case "unrolled" -> UnrolledLinkedList::new;
+      case "small" -> SmallList::new;
+      default -> throw new IllegalArgumentException("Unknown implementation '" + name + "'");
+    };
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.out.println("Usage: TraceReplay replay <trace-file> [implementation|all] [warmupRounds] [measuredRounds]");
+      System.out.println("       TraceReplay record <trace-file> [operations] [seed]");
+      System.out.println("Implementations: " + String.join(", ", IMPLEMENTATIONS));
+      return;
+    }
+    Path file = Path.of(args[1]);
+    if (args[0].equals("record")) {
+      int operations = (args.length > 2) ? Integer.parseInt(args[2]) : 1_000_000;
+      long seed = (args.length > 3) ? Long.parseLong(args[3]) : 42L;
+      recordSample(file, operations, seed);
+      System.out.println("Recorded a " + operations + "-step workload to " + file);
+      return;
+    }
+
+    String target = (args.length > 2) ? args[2] : "all";
+    int warmupRounds = (args.length > 3) ? Integer.parseInt(args[3]) : 5;
+    int measuredRounds = (args.length > 4) ? Integer.parseInt(args[4]) : 5;
+    Trace trace = Trace.read(file);
+    System.out.println("===== Trace Replay: " + file + " (" + trace.length() + " operations) =====");
+    String[] names = target.equals("all") ? IMPLEMENTATIONS : new String[] { target };
+    for (String name : names) {
+      replay(name, factoryFor(name), trace, warmupRounds, measuredRounds);
+    }
+  }
+
+  // -------------------
+  // Replay
+  // -------------------
+  private static void replay(String name, Supplier<ListADT<Integer>> factory, Trace trace, int warmupRounds,
+      int measuredRounds) {
+    // Box every argument once up front, so the allocation figure reflects the
+    // list implementation rather than the driver's own autoboxing
+    Integer[] first = new Integer[trace.length()];
+    Integer[] second = new Integer[trace.length()];
+    for (int i = 0; i < trace.length(); i++) {
+      first[i] = trace.first(i);
+      second[i] = trace.second(i);
+    }
+
+    LatencyHistogram latencies = new LatencyHistogram();
+    for (int round = 0; round < warmupRounds; round++) {
+      run(factory.get(), trace, first, second, latencies);
+    }
+    latencies.reset();
+
+    long errors = 0;
+    long allocatedBefore = allocatedBytes();
+    long start = System.nanoTime();
+    for (int round = 0; round < measuredRounds; round++) {
+      errors += run(factory.get(), trace, first, second, latencies);
+    }
+    long elapsed = System.nanoTime() - start;
+    long allocated = allocatedBytes() - allocatedBefore;
+
+    long operations = (long) trace.length() * measuredRounds;
+    System.out.println("--- " + name + " ---");
+    System.out.printf("  throughput : %,.0f ops/s (%d rounds, %.1f ms)%n",
+        operations / (elapsed / 1e9), measuredRounds, elapsed / 1e6);
+    System.out.printf("  latency ns : min %d  p50 %d  p90 %d  p99 %d  p99.9 %d  max %d  mean %.1f%n",
+        latencies.min(), latencies.valueAtPercentile(50), latencies.valueAtPercentile(90),
+        latencies.valueAtPercentile(99), latencies.valueAtPercentile(99.9), latencies.max(), latencies.mean());
+    if (allocated >= 0) {
+      System.out.printf("  allocation : %.2f bytes/op%n", (double) allocated / operations);
+    } else {
+      System.out.println("  allocation : not available on this JVM");
+    }
+    System.out.println("  errors     : " + errors);
+  }
+
+  // Returns the number of operations that threw
+  private static long run(ListADT<Integer> list, Trace trace, Integer[] first, Integer[] second,
+      LatencyHistogram latencies) {
+    long errors = 0;
+    for (int i = 0; i < trace.length(); i++) {
+      int op = trace.op(i);
+      Integer a = first[i];
+      Integer b = second[i];
+      long start = System.nanoTime();
+      try {
+        apply(list, op, a, b);
+      } catch (RuntimeException e) {
+        errors++;
+      }
+      latencies.record(System.nanoTime() - start);
+    }
+    return errors;
+  }
+
+  // Index arguments are unboxed explicitly; remove(a) would otherwise pick remove(T item)
+  private static void apply(ListADT<Integer> list, int op, Integer a, Integer b) {
+    switch (op) {
+      case Trace.ADD -> list.add(a.intValue(), b);
+      case Trace.ADD_FIRST -> list.addFirst(a);
+      case Trace.ADD_LAST -> list.addLast(a);
+      case Trace.ADD_AFTER -> list.addAfter(a, b);
+      case Trace.REMOVE_FIRST -> list.removeFirst();
+      case Trace.REMOVE_LAST -> list.removeLast();
+      case Trace.REMOVE_AT -> list.remove(a.intValue());
+      case Trace.REMOVE_ITEM -> list.remove(a);
+      case Trace.FIRST -> list.first();
+      case Trace.LAST -> list.last();
+      case Trace.GET -> list.get(a.intValue());
+      case Trace.SET -> list.set(a.intValue(), b);
+      case Trace.INDEX_OF -> list.indexOf(a);
+      case Trace.CONTAINS -> list.contains(a);
+      case Trace.CLEAR -> list.clear();
+      case Trace.IS_EMPTY -> list.isEmpty();
+      case Trace.SIZE -> list.size();
+      default -> throw new IllegalStateException("Unknown opcode " + op);
+    }
+  }
+
+  // Bytes allocated by this thread so far, or -1 if the JVM cannot tell
+  private static long allocatedBytes() {
+    java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    if (threads instanceof com.sun.management.ThreadMXBean hotspot && hotspot.isThreadAllocatedMemorySupported()) {
+      return hotspot.getCurrentThreadAllocatedBytes();
+    }
+    return -1;
+  }
+
+  // -------------------
+  // Sample Recording
+  // -------------------
+  private static void recordSample(Path file, int operations, long seed) throws IOException {
+    Random random = new Random(seed);
+    try (RecordingList<Integer> list = new RecordingList<>(new ArrayList<>(), file)) {
+      int size = 0; // tracked locally; asking the recorder would log a SIZE call per step
+      for (int i = 0; i < operations; i++) {
+        int roll = random.nextInt(100);
+        if (size == 0 || roll < 35) {
+          list.addLast(random.nextInt(1000));
+          size++;
+        } else if (roll < 45) {
+          list.add(random.nextInt(size + 1), random.nextInt(1000));
+          size++;
+        } else if (roll < 75) {
+          list.get(random.nextInt(size));
+        } else if (roll < 85) {
+          list.remove(random.nextInt(size));
+          size--;
+        } else if (roll < 95) {
+          list.removeLast();
+          size--;
+        } else {
+          list.contains(random.nextInt(1000));
+        }
+      }
+    }
+  }
+}
@@ -1,19 +1,32 @@
 package DataStructures;
 
 import ADTs.ListADT;
+import ADTs.ListView;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Arrays;
 
 public class ArrayList<T> implements ListADT<T> {
-    private static final int DEFAULT_CAPACITY = 10;
+    static final int DEFAULT_CAPACITY = 10;
     private T[] buffer;
     private int size;
+    private int modCount; // bumped by every mutation; lets a Batch detect edits made after it started
+    private final ArrayListPool pool;
+    private ChangeFeed feed; // null until someone subscribes
 
     @SuppressWarnings("unchecked")
     public ArrayList() {
         this.buffer = (T[]) new Object[DEFAULT_CAPACITY];
         this.size = 0;
+        this.pool = null;
+    }
+
+    // Used by ArrayListPool: backing arrays are borrowed from (and returned to) the pool
+    @SuppressWarnings("unchecked")
+    ArrayList(ArrayListPool pool) {
+        this.buffer = (T[]) pool.take(DEFAULT_CAPACITY);
+        this.size = 0;
+        this.pool = pool;
     }
 
     // ---------------------------
@@ -23,12 +36,25 @@ public class ArrayList<T> implements ListADT<T> {
     private void growIfNeeded() {
         if (this.size == this.buffer.length) {
             int newCapacity = (this.buffer.length == 0) ? DEFAULT_CAPACITY : this.buffer.length * 2;
-            T[] newBuffer = (T[]) new Object[newCapacity];
+            T[] newBuffer = (this.pool != null) ? (T[]) this.pool.take(newCapacity) : (T[]) new Object[newCapacity];
             System.arraycopy(this.buffer, 0, newBuffer, 0, this.size);
+            if (this.pool != null) this.pool.recycle(this.buffer, this.size);
             this.buffer = newBuffer;
         }
     }
 
+    // ---------------------------------------------
+    // Package Helper: hand the buffer back to a pool
+    // ---------------------------------------------
+    @SuppressWarnings("unchecked")
+    void releaseTo(ArrayListPool pool) {
+        if (this.feed != null && this.size > 0) recordChange(ListChange.Kind.REMOVED, 0, this.size);
+        pool.recycle(this.buffer, this.size);
+        this.buffer = (T[]) ArrayListPool.EMPTY;
+        this.size = 0;
+        this.modCount++;
+    }
+
     // -------------------
     // Add Methods
     // -------------------
@@ -36,7 +62,9 @@ public class ArrayList<T> implements ListADT<T> {
     public void addLast(T item) {
         if (item == null) throw new IllegalArgumentException();
         growIfNeeded();
+        if (this.feed != null) recordChange(ListChange.Kind.INSERTED, this.size, 1);
         this.buffer[this.size++] = item;
+        this.modCount++;
     }
 
     @Override
@@ -52,6 +80,8 @@ public class ArrayList<T> implements ListADT<T> {
         System.arraycopy(this.buffer, index, this.buffer, index + 1, this.size - index);
         this.buffer[index] = item;
         this.size++;
+        this.modCount++;
+        if (this.feed != null) recordChange(ListChange.Kind.INSERTED, index, 1);
     }
 
     @Override
@@ -87,6 +117,8 @@ public class ArrayList<T> implements ListADT<T> {
             System.arraycopy(this.buffer, index + 1, this.buffer, index, numMoved);
         }
         this.buffer[--this.size] = null;
+        this.modCount++;
+        if (this.feed != null) recordChange(ListChange.Kind.REMOVED, index, 1);
         return removed;
     }
 
@@ -98,6 +130,273 @@ public class ArrayList<T> implements ListADT<T> {
         return true;
     }
 
+    // -------------------
+    // Batched Mutations
+    // -------------------
+
+    /**
+     * Starts a batch of inserts and removals that are all expressed against
+     * the list as it is now and applied together by {@link Batch#commit()}.
+     */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    /**
+     * A set of pending edits against a snapshot of the list's indices.
+     * <p>
+     * {@code insert(i, x)} places x before the element currently at index i
+     * (or at the end when i == size); several inserts at the same index keep
+     * the order they were recorded in. {@code remove(i)} drops the element
+     * currently at index i. {@code commit()} applies everything in one pass
+     * over the buffer: each run of surviving elements is moved once, and the
+     * buffer is reallocated at most once. k edits on n elements cost
+     * O(n + k log k) instead of O(n * k).
+     */
+    public class Batch {
+        private final int baseSize = ArrayList.this.size;
+        private final int baseModCount = ArrayList.this.modCount;
+        private long[] inserts = new long[4]; // (index << 32) | position in insertItems
+        private Object[] insertItems = new Object[4];
+        private int insertCount;
+        private int[] removals = new int[4];
+        private int removalCount;
+        private boolean committed;
+
+        private Batch() {
+        }
+
+        /**
+         * Records an insert before the element currently at index.
+         *
+         * @param index position in the list as it was when the batch started
+         * @param item  element to insert
+         * @return this batch
+         * @throws IndexOutOfBoundsException if index is invalid
+         * @throws IllegalArgumentException if item is null
+         * @throws IllegalStateException if the batch was already committed
+         */
+        public Batch insert(int index, T item) {
+            if (this.committed) throw new IllegalStateException();
+            if (item == null) throw new IllegalArgumentException();
+            if (index < 0 || index > this.baseSize) throw new IndexOutOfBoundsException();
+            if (this.insertCount == this.inserts.length) {
+                this.inserts = Arrays.copyOf(this.inserts, this.insertCount * 2);
+                this.insertItems = Arrays.copyOf(this.insertItems, this.insertCount * 2);
+            }
+            this.inserts[this.insertCount] = ((long) index << 32) | this.insertCount;
+            this.insertItems[this.insertCount++] = item;
+            return this;
+        }
+
+        /**
+         * Records the removal of the element currently at index.
+         *
+         * @param index position in the list as it was when the batch started
+         * @return this batch
+         * @throws IndexOutOfBoundsException if index is invalid
+         * @throws IllegalStateException if the batch was already committed
+         */
+        public Batch remove(int index) {
+            if (this.committed) throw new IllegalStateException();
+            if (index < 0 || index >= this.baseSize) throw new IndexOutOfBoundsException();
+            if (this.removalCount == this.removals.length) {
+                this.removals = Arrays.copyOf(this.removals, this.removalCount * 2);
+            }
+            this.removals[this.removalCount++] = index;
+            return this;
+        }
+
+        /**
+         * Applies all recorded edits to the list.
+         *
+         * @throws IllegalArgumentException if the same index was removed twice
+         * @throws IllegalStateException if the batch was already committed, or
+         *                               the list was modified in any way since the batch started
+         */
+        @SuppressWarnings("unchecked")
+        public void commit() {
+            if (this.committed || ArrayList.this.modCount != this.baseModCount) throw new IllegalStateException();
+            int n = this.baseSize;
+            int k = this.insertCount;
+            int r = this.removalCount;
+            Arrays.sort(this.inserts, 0, k);
+            Arrays.sort(this.removals, 0, r);
+            for (int i = 1; i < r; i++) {
+                if (this.removals[i] == this.removals[i - 1]) throw new IllegalArgumentException();
+            }
+            this.committed = true;
+            int newSize = n + k - r;
+
+            // Split the surviving elements into runs that all move by the same shift
+            int[] runStart = new int[k + r + 1];
+            int[] runLength = new int[k + r + 1];
+            int[] runShift = new int[k + r + 1];
+            int runs = 0;
+            int ip = 0;
+            int rp = 0;
+            int shift = 0;
+            int i = 0;
+            while (i < n) {
+                while (ip < k && insertIndex(ip) == i) {
+                    shift++;
+                    ip++;
+                }
+                if (rp < r && this.removals[rp] == i) {
+                    shift--;
+                    rp++;
+                    i++;
+                    continue;
+                }
+                int next = n;
+                if (ip < k) next = Math.min(next, insertIndex(ip));
+                if (rp < r) next = Math.min(next, this.removals[rp]);
+                runStart[runs] = i;
+                runLength[runs] = next - i;
+                runShift[runs] = shift;
+                runs++;
+                i = next;
+            }
+
+            T[] source = ArrayList.this.buffer;
+            T[] target = source;
+            if (newSize > source.length) {
+                int newCapacity = (source.length == 0) ? DEFAULT_CAPACITY : source.length;
+                while (newCapacity < newSize) newCapacity *= 2;
+                target = (pool != null) ? (T[]) pool.take(newCapacity) : (T[]) new Object[newCapacity];
+                for (int run = 0; run < runs; run++) {
+                    System.arraycopy(source, runStart[run], target, runStart[run] + runShift[run], runLength[run]);
+                }
+                if (pool != null) pool.recycle(source, n);
+            } else {
+                // Runs moving right go back to front, runs moving left go front to back,
+                // so no run overwrites elements that have not been moved yet
+                for (int run = runs - 1; run >= 0; run--) {
+                    if (runShift[run] > 0) {
+                        System.arraycopy(source, runStart[run], source, runStart[run] + runShift[run], runLength[run]);
+                    }
+                }
+                for (int run = 0; run < runs; run++) {
+                    if (runShift[run] < 0) {
+                        System.arraycopy(source, runStart[run], source, runStart[run] + runShift[run], runLength[run]);
+                    }
+                }
+                if (newSize < n) Arrays.fill(source, newSize, n, null);
+            }
+
+            rp = 0;
+            for (int j = 0; j < k; j++) {
+                int index = insertIndex(j);
+                while (rp < r && this.removals[rp] < index) rp++;
+                target[index + j - rp] = (T) this.insertItems[(int) this.inserts[j]];
+            }
+            ArrayList.this.buffer = target;
+            ArrayList.this.size = newSize;
+            ArrayList.this.modCount++;
+
+            if (feed != null) {
+                // Removals from the back first, then inserts at their final positions front to back,
+                // which replays correctly one event at a time
+                for (int j = r - 1; j >= 0; j--) {
+                    recordChange(ListChange.Kind.REMOVED, this.removals[j], 1);
+                }
+                rp = 0;
+                for (int j = 0; j < k; j++) {
+                    int index = insertIndex(j);
+                    while (rp < r && this.removals[rp] < index) rp++;
+                    recordChange(ListChange.Kind.INSERTED, index + j - rp, 1);
+                }
+            }
+        }
+
+        private int insertIndex(int sorted) {
+            return (int) (this.inserts[sorted] >>> 32);
+        }
+    }
+
+    // -------------------
+    // Change Feed
+    // -------------------
+
+    // Subscribers and the events recorded since the last flush; created by the first subscription
+    private static final class ChangeFeed {
+        final ArrayList<ListChangeListener> listeners = new ArrayList<>();
+        ArrayList<ListChange> pending = new ArrayList<>();
+    }
+
+    /**
+     * Subscribes a listener to this list's change feed. While at least one
+     * listener is subscribed, every mutation is logged as a range event;
+     * events are delivered in batches by {@link #flushChanges()}. Lists with
+     * no listeners skip the logging entirely.
+     *
+     * @param listener the listener to add
+     * @throws IllegalArgumentException if listener is null
+     */
+    public void addChangeListener(ListChangeListener listener) {
+        if (listener == null) throw new IllegalArgumentException();
+        if (this.feed == null) this.feed = new ChangeFeed();
+        this.feed.listeners.addLast(listener);
+    }
+
+    /**
+     * Unsubscribes a listener. When the last listener is removed, any
+     * unflushed events are discarded.
+     *
+     * @param listener the listener to remove
+     * @return true if the listener was subscribed
+     */
+    public boolean removeChangeListener(ListChangeListener listener) {
+        if (this.feed == null || !this.feed.listeners.remove(listener)) return false;
+        if (this.feed.listeners.isEmpty()) this.feed = null;
+        return true;
+    }
+
+    /**
+     * Delivers every event recorded since the last flush to all listeners,
+     * then starts a new batch. Does nothing if no events are pending.
+     */
+    public void flushChanges() {
+        ChangeFeed feed = this.feed;
+        if (feed == null || feed.pending.isEmpty()) return;
+        ArrayList<ListChange> changes = feed.pending;
+        feed.pending = new ArrayList<>();
+        // Snapshot the subscribers so a listener that (un)subscribes during the flush cannot make us skip one
+        ListChangeListener[] subscribers = new ListChangeListener[feed.listeners.size()];
+        for (int i = 0; i < subscribers.length; i++) {
+            subscribers[i] = feed.listeners.get(i);
+        }
+        for (ListChangeListener subscriber : subscribers) {
+            subscriber.onChanges(changes);
+        }
+    }
+
+    // Appends an event, merging it into the previous one when they form a single range
+    private void recordChange(ListChange.Kind kind, int from, int count) {
+        int to = from + count;
+        ArrayList<ListChange> pending = this.feed.pending;
+        if (!pending.isEmpty()) {
+            ListChange last = pending.last();
+            if (last.kind() == kind) {
+                ListChange merged = null;
+                if (kind == ListChange.Kind.INSERTED && from >= last.from() && from <= last.to()) {
+                    merged = new ListChange(kind, last.from(), last.to() + count);
+                } else if (kind == ListChange.Kind.REMOVED && from == last.from()) {
+                    merged = new ListChange(kind, last.from(), last.to() + count);
+                } else if (kind == ListChange.Kind.REMOVED && to == last.from()) {
+                    merged = new ListChange(kind, from, last.to());
+                } else if (kind == ListChange.Kind.SET && from <= last.to() && to >= last.from()) {
+                    merged = new ListChange(kind, Math.min(from, last.from()), Math.max(to, last.to()));
+                }
+                if (merged != null) {
+                    pending.set(pending.size() - 1, merged);
+                    return;
+                }
+            }
+        }
+        pending.addLast(new ListChange(kind, from, to));
+    }
+
     // -------------------
     // Accessors & Queries
     // -------------------
@@ -113,6 +412,8 @@ public class ArrayList<T> implements ListADT<T> {
         if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException();
         T old = this.buffer[index];
         this.buffer[index] = item;
+        this.modCount++;
+        if (this.feed != null) recordChange(ListChange.Kind.SET, index, 1);
         return old;
     }
 
@@ -136,6 +437,16 @@ public class ArrayList<T> implements ListADT<T> {
         return -1;
     }
 
+    @Override
+    public ListView<T> view() {
+        return new ListView<>(sink -> {
+            int end = this.size; // fixed up front so collecting into this list terminates
+            for (int i = 0; i < end && i < this.size; i++) { // and re-checked so shrinking it never exposes stale slots
+                if (!sink.accept(this.buffer[i])) return;
+            }
+        });
+    }
+
     @Override
     public boolean contains(T item) {
         return indexOf(item) != -1;
@@ -153,8 +464,10 @@ public class ArrayList<T> implements ListADT<T> {
 
     @Override
     public void clear() {
+        if (this.feed != null && this.size > 0) recordChange(ListChange.Kind.REMOVED, 0, this.size);
         Arrays.fill(this.buffer, 0, this.size, null);
         this.size = 0;
+        this.modCount++;
     }
 
     // Optional: Detailed state for debugging
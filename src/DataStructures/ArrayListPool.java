@@ -0,0 +1,168 @@
+package DataStructures;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A recycler for the backing arrays of short-lived {@link ArrayList}s.
+ * <p>
+ * Lists handed out by {@link #acquire()} borrow their buffers from per-thread
+ * free lists instead of allocating them. Buffers are grouped into size classes
+ * that follow the list's own growth sequence (10, 20, 40, ...), so every array
+ * an acquired list asks for can be served from a free list. {@link #release}
+ * clears the list and returns its buffer for the next caller on that thread.
+ *
+ * <pre>
+ * ArrayList&lt;String&gt; scratch = pool.acquire();
+ * try {
+ *     ...
+ * } finally {
+ *     pool.release(scratch);
+ * }
+ * </pre>
+ *
+ * A released list stays usable, but it no longer owns a buffer and will borrow
+ * a fresh one the next time it grows.
+ */
+public class ArrayListPool {
+    static final Object[] EMPTY = new Object[0];
+
+    private static final int DEFAULT_SIZE_CLASSES = 8;   // 10 .. 1280 elements
+    private static final int DEFAULT_MAX_PER_CLASS = 32;
+    private static final int MAX_SIZE_CLASSES = 24;      // largest class holds 10 * 2^23 elements
+
+    private final int sizeClasses;
+    private final int maxPerClass;
+    private final ThreadLocal<Object[][][]> freeLists;
+    private final ThreadLocal<int[]> freeCounts;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder recycled = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public ArrayListPool() {
+        this(DEFAULT_SIZE_CLASSES, DEFAULT_MAX_PER_CLASS);
+    }
+
+    /**
+     * @param sizeClasses number of size classes to pool; class k holds arrays
+     *                    of {@code 10 * 2^k} elements
+     * @param maxPerClass maximum number of idle arrays kept per class per thread
+     * @throws IllegalArgumentException if either argument is not positive, or
+     *                                  sizeClasses is greater than 24
+     */
+    public ArrayListPool(int sizeClasses, int maxPerClass) {
+        if (sizeClasses <= 0 || sizeClasses > MAX_SIZE_CLASSES || maxPerClass <= 0) throw new IllegalArgumentException();
+        this.sizeClasses = sizeClasses;
+        this.maxPerClass = maxPerClass;
+        this.freeLists = ThreadLocal.withInitial(() -> new Object[sizeClasses][maxPerClass][]);
+        this.freeCounts = ThreadLocal.withInitial(() -> new int[sizeClasses]);
+    }
+
+    // -------------------
+    // Lists
+    // -------------------
+
+    /**
+     * Returns an empty list whose buffers are borrowed from this pool.
+     *
+     * @param <T> the element type of the list
+     * @return an empty pooled list
+     */
+    public <T> ArrayList<T> acquire() {
+        return new ArrayList<>(this);
+    }
+
+    /**
+     * Clears the list and returns its backing array to the calling thread's
+     * free list.
+     *
+     * @param list the list to release
+     * @throws IllegalArgumentException if list is null
+     */
+    public void release(ArrayList<?> list) {
+        if (list == null) throw new IllegalArgumentException();
+        list.releaseTo(this);
+    }
+
+    // -------------------
+    // Arrays
+    // -------------------
+    Object[] take(int capacity) {
+        int sizeClass = sizeClassOf(capacity);
+        if (sizeClass < 0) {
+            this.misses.increment();
+            return new Object[capacity];
+        }
+        int[] counts = this.freeCounts.get();
+        if (counts[sizeClass] == 0) {
+            this.misses.increment();
+            return new Object[capacity];
+        }
+        Object[][] free = this.freeLists.get()[sizeClass];
+        Object[] array = free[--counts[sizeClass]];
+        free[counts[sizeClass]] = null;
+        this.hits.increment();
+        return array;
+    }
+
+    // Arrays on a free list are always fully cleared, so only the used prefix needs nulling
+    void recycle(Object[] array, int used) {
+        if (array.length == 0) return;
+        int sizeClass = sizeClassOf(array.length);
+        int[] counts = this.freeCounts.get();
+        if (sizeClass < 0 || counts[sizeClass] == this.maxPerClass) {
+            this.dropped.increment();
+            return;
+        }
+        Arrays.fill(array, 0, used, null);
+        this.freeLists.get()[sizeClass][counts[sizeClass]++] = array;
+        this.recycled.increment();
+    }
+
+    private int sizeClassOf(int capacity) {
+        if (capacity % ArrayList.DEFAULT_CAPACITY != 0) return -1;
+        int multiple = capacity / ArrayList.DEFAULT_CAPACITY;
+        if (Integer.bitCount(multiple) != 1) return -1;
+        int sizeClass = Integer.numberOfTrailingZeros(multiple);
+        return (sizeClass < this.sizeClasses) ? sizeClass : -1;
+    }
+
+    // -------------------
+    // Metrics
+    // -------------------
+
+    /** @return number of array requests served from a free list */
+    public long hits() {
+        return this.hits.sum();
+    }
+
+    /** @return number of array requests that had to allocate */
+    public long misses() {
+        return this.misses.sum();
+    }
+
+    /** @return number of arrays put back on a free list */
+    public long recycled() {
+        return this.recycled.sum();
+    }
+
+    /** @return number of returned arrays discarded because they were unpooled sizes or the free list was full */
+    public long dropped() {
+        return this.dropped.sum();
+    }
+
+    /** @return fraction of array requests served without allocating, or 0 if none were made */
+    public double hitRate() {
+        long h = hits();
+        long total = h + misses();
+        return (total == 0) ? 0.0 : (double) h / total;
+    }
+
+    @Override
+    public String toString() {
+        return "ArrayListPool[Hits=" + hits() + ", Misses=" + misses() + ", Recycled=" + recycled()
+                + ", Dropped=" + dropped() + ", HitRate=" + String.format("%.3f", hitRate()) + "]";
+    }
+}
@@ -0,0 +1,295 @@
+package DataStructures;
+
+import ADTs.ListADT;
+import java.util.NoSuchElementException;
+import java.util.Arrays;
+
+/**
+ * A list of booleans packed 64 to a {@code long}.
+ * <p>
+ * Each element costs one bit instead of a reference, and the bulk operations
+ * work a whole word at a time: {@link #indexOf} skips 64 non-matching
+ * elements per step with {@link Long#numberOfTrailingZeros}, {@link #count}
+ * uses {@link Long#bitCount}, and {@link #and}/{@link #or}/{@link #xor}
+ * combine two lists word by word. Inserting or removing in the middle shifts
+ * the following bits one word at a time rather than one element at a time.
+ * <p>
+ * Bits at positions {@code >= size} are always zero.
+ */
+public class BooleanArrayList implements ListADT<Boolean> {
+    private static final int DEFAULT_WORDS = 2;
+    private static final int WORD_BITS = 64;
+
+    private long[] words;
+    private int size;
+
+    public BooleanArrayList() {
+        this.words = new long[DEFAULT_WORDS];
+        this.size = 0;
+    }
+
+    // ---------------------------
+    // Private Helpers
+    // ---------------------------
+    private void growIfNeeded() {
+        if (this.size == this.words.length * WORD_BITS) {
+            this.words = Arrays.copyOf(this.words, this.words.length * 2);
+        }
+    }
+
+    private boolean bit(int index) {
+        return (this.words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private void setBit(int index, boolean value) {
+        if (value) {
+            this.words[index >>> 6] |= 1L << index;
+        } else {
+            this.words[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    // Moves bits [index, size) up by one position, leaving bit index free
+    private void shiftUp(int index) {
+        int first = index >>> 6;
+        for (int w = this.size >>> 6; w > first; w--) {
+            this.words[w] = (this.words[w] << 1) | (this.words[w - 1] >>> 63);
+        }
+        long keep = (1L << index) - 1;
+        this.words[first] = (this.words[first] & keep) | ((this.words[first] << 1) & ~keep);
+    }
+
+    // Moves bits (index, size) down by one position, overwriting bit index
+    private void shiftDown(int index) {
+        int first = index >>> 6;
+        int last = (this.size - 1) >>> 6;
+        long keep = (1L << index) - 1;
+        this.words[first] = (this.words[first] & keep) | ((this.words[first] >>> 1) & ~keep);
+        for (int w = first; w < last; w++) {
+            this.words[w] |= this.words[w + 1] << 63;
+            this.words[w + 1] >>>= 1;
+        }
+    }
+
+    private void checkSameSize(BooleanArrayList other) {
+        if (other == null || other.size != this.size) throw new IllegalArgumentException();
+    }
+
+    // -------------------
+    // Add Methods
+    // -------------------
+    @Override
+    public void addLast(Boolean item) {
+        if (item == null) throw new IllegalArgumentException();
+        growIfNeeded();
+        setBit(this.size++, item);
+    }
+
+    @Override
+    public void addFirst(Boolean item) {
+        add(0, item);
+    }
+
+    @Override
+    public void add(int index, Boolean item) {
+        if (item == null) throw new IllegalArgumentException();
+        if (index < 0 || index > this.size) throw new IndexOutOfBoundsException();
+        growIfNeeded();
+        shiftUp(index);
+        setBit(index, item);
+        this.size++;
+    }
+
+    @Override
+    public boolean addAfter(Boolean existing, Boolean item) {
+        if (existing == null || item == null) throw new IllegalArgumentException();
+        int i = indexOf(existing);
+        if (i == -1) return false;
+        add(i + 1, item);
+        return true;
+    }
+
+    // -------------------
+    // Remove Methods
+    // -------------------
+    @Override
+    public Boolean removeFirst() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return remove(0);
+    }
+
+    @Override
+    public Boolean removeLast() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return remove(this.size - 1);
+    }
+
+    @Override
+    public Boolean remove(int index) {
+        if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException();
+        boolean removed = bit(index);
+        shiftDown(index);
+        this.size--;
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Boolean item) {
+        int i = indexOf(item);
+        if (i == -1) return false;
+        remove(i);
+        return true;
+    }
+
+    // -------------------
+    // Accessors & Queries
+    // -------------------
+    @Override
+    public Boolean get(int index) {
+        if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException();
+        return bit(index);
+    }
+
+    @Override
+    public Boolean set(int index, Boolean item) {
+        if (item == null) throw new IllegalArgumentException();
+        if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException();
+        boolean old = bit(index);
+        setBit(index, item);
+        return old;
+    }
+
+    @Override
+    public Boolean first() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return get(0);
+    }
+
+    @Override
+    public Boolean last() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return get(this.size - 1);
+    }
+
+    @Override
+    public int indexOf(Boolean item) {
+        if (item == null) return -1;
+        return indexOf(item, 0);
+    }
+
+    /**
+     * Returns the position of the first occurrence of value at or after
+     * fromIndex, scanning a word at a time.
+     *
+     * @param value     value to search for
+     * @param fromIndex position to start searching at
+     * @return the index of the first match, or -1 if there is none
+     */
+    public int indexOf(boolean value, int fromIndex) {
+        if (fromIndex < 0) fromIndex = 0;
+        if (fromIndex >= this.size) return -1;
+        int w = fromIndex >>> 6;
+        long word = (value ? this.words[w] : ~this.words[w]) & (-1L << fromIndex);
+        int lastWord = (this.size - 1) >>> 6;
+        while (true) {
+            if (word != 0) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                return (index < this.size) ? index : -1;
+            }
+            if (++w > lastWord) return -1;
+            word = value ? this.words[w] : ~this.words[w];
+        }
+    }
+
+    /**
+     * Counts the elements equal to value using a popcount per word.
+     *
+     * @param value value to count
+     * @return number of elements equal to value
+     */
+    public int count(boolean value) {
+        int ones = 0;
+        int usedWords = (this.size + WORD_BITS - 1) >>> 6;
+        for (int w = 0; w < usedWords; w++) {
+            ones += Long.bitCount(this.words[w]);
+        }
+        return value ? ones : this.size - ones;
+    }
+
+    @Override
+    public boolean contains(Boolean item) {
+        return indexOf(item) != -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.words, 0, (this.size + WORD_BITS - 1) >>> 6, 0L);
+        this.size = 0;
+    }
+
+    // -------------------
+    // Bulk Operations
+    // -------------------
+
+    /**
+     * Replaces each element with its logical AND with the element at the same
+     * position in other.
+     *
+     * @param other list of the same size
+     * @throws IllegalArgumentException if other is null or a different size
+     */
+    public void and(BooleanArrayList other) {
+        checkSameSize(other);
+        int usedWords = (this.size + WORD_BITS - 1) >>> 6;
+        for (int w = 0; w < usedWords; w++) {
+            this.words[w] &= other.words[w];
+        }
+    }
+
+    /**
+     * Replaces each element with its logical OR with the element at the same
+     * position in other.
+     *
+     * @param other list of the same size
+     * @throws IllegalArgumentException if other is null or a different size
+     */
+    public void or(BooleanArrayList other) {
+        checkSameSize(other);
+        int usedWords = (this.size + WORD_BITS - 1) >>> 6;
+        for (int w = 0; w < usedWords; w++) {
+            this.words[w] |= other.words[w];
+        }
+    }
+
+    /**
+     * Replaces each element with its logical XOR with the element at the same
+     * position in other.
+     *
+     * @param other list of the same size
+     * @throws IllegalArgumentException if other is null or a different size
+     */
+    public void xor(BooleanArrayList other) {
+        checkSameSize(other);
+        int usedWords = (this.size + WORD_BITS - 1) >>> 6;
+        for (int w = 0; w < usedWords; w++) {
+            this.words[w] ^= other.words[w];
+        }
+    }
+
+    // Optional: Detailed state for debugging
+    public String toDetailedString() {
+        StringBuilder bits = new StringBuilder(size);
+        for (int i = 0; i < size; i++) bits.append(bit(i) ? '1' : '0');
+        return "BooleanArrayList[Size=" + size + ", Capacity=" + (words.length * WORD_BITS) + "] " + bits;
+    }
+}
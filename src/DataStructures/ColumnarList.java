@@ -0,0 +1,441 @@
+package DataStructures;
+
+import java.util.Arrays;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+/**
+ * A list of fixed-layout records stored column by column.
+ * <p>
+ * Each field described by the {@link Schema} lives in its own primitive array,
+ * so a scan over a single field walks one contiguous {@code int[]},
+ * {@code long[]} or {@code double[]} instead of chasing a pointer per record.
+ * Row-wise access goes through {@link Row}, a view that holds only a row
+ * index and reads and writes the columns directly. {@link #get(int)} and
+ * {@link #addRow()} create a new view per call; for allocation-free row
+ * iteration, take one view from {@link #cursor()} and reposition it with
+ * {@link Row#moveTo(int)}.
+ *
+ * <pre>
+ * ColumnarList.Schema schema = new ColumnarList.Schema().addLong("ts").addInt("qty").addDouble("price");
+ * ColumnarList trades = new ColumnarList(schema);
+ * int qty = schema.indexOf("qty");
+ * trades.addRow().setLong(0, now).setInt(qty, 100).setDouble(2, 9.5);
+ * long total = trades.sumLong(qty);
+ * </pre>
+ */
+public class ColumnarList {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /** The storage type of a field. */
+    public enum FieldType { INT, LONG, DOUBLE }
+
+    /**
+     * An ordered list of named, typed fields. Fields are addressed by their
+     * position in the schema. A list takes a frozen copy of the schema it is
+     * built from, so the schema returned by {@link ColumnarList#schema()}
+     * cannot be changed.
+     */
+    public static class Schema {
+        private final ArrayList<String> names = new ArrayList<>();
+        private final ArrayList<FieldType> types = new ArrayList<>();
+        private boolean frozen;
+
+        public Schema addInt(String name) {
+            return add(name, FieldType.INT);
+        }
+
+        public Schema addLong(String name) {
+            return add(name, FieldType.LONG);
+        }
+
+        public Schema addDouble(String name) {
+            return add(name, FieldType.DOUBLE);
+        }
+
+        /**
+         * Appends a field to the schema.
+         *
+         * @param name field name, unique within the schema
+         * @param type storage type of the field
+         * @return this schema
+         * @throws IllegalArgumentException if name or type is null, or name is already used
+         * @throws IllegalStateException if this schema belongs to a list
+         */
+        public Schema add(String name, FieldType type) {
+            if (this.frozen) throw new IllegalStateException();
+            if (name == null || type == null || this.names.contains(name)) throw new IllegalArgumentException();
+            this.names.addLast(name);
+            this.types.addLast(type);
+            return this;
+        }
+
+        /**
+         * @param name field name to look up
+         * @return position of the field, or -1 if the schema has no such field
+         */
+        public int indexOf(String name) {
+            return this.names.indexOf(name);
+        }
+
+        public String nameOf(int field) {
+            return this.names.get(field);
+        }
+
+        public FieldType typeOf(int field) {
+            return this.types.get(field);
+        }
+
+        public int fieldCount() {
+            return this.names.size();
+        }
+
+        private Schema frozenCopy() {
+            Schema copy = new Schema();
+            for (int f = 0; f < fieldCount(); f++) {
+                copy.add(nameOf(f), typeOf(f));
+            }
+            copy.frozen = true;
+            return copy;
+        }
+    }
+
+    /**
+     * A view of one row. Reads and writes go straight to the column arrays; a
+     * row does not copy any values. Views are positional, so after a removal
+     * they refer to whichever record now occupies their index.
+     */
+    public final class Row {
+        private int index;
+
+        private Row(int index) {
+            this.index = index;
+        }
+
+        /**
+         * Repositions this view so it can be reused for another row without
+         * allocating.
+         *
+         * @param index row to view
+         * @return this view
+         * @throws IndexOutOfBoundsException if index is invalid
+         */
+        public Row moveTo(int index) {
+            checkIndex(index);
+            this.index = index;
+            return this;
+        }
+
+        public int index() {
+            return this.index;
+        }
+
+        public int getInt(int field) {
+            return ColumnarList.this.getInt(this.index, field);
+        }
+
+        public long getLong(int field) {
+            return ColumnarList.this.getLong(this.index, field);
+        }
+
+        public double getDouble(int field) {
+            return ColumnarList.this.getDouble(this.index, field);
+        }
+
+        public Row setInt(int field, int value) {
+            ColumnarList.this.setInt(this.index, field, value);
+            return this;
+        }
+
+        public Row setLong(int field, long value) {
+            ColumnarList.this.setLong(this.index, field, value);
+            return this;
+        }
+
+        public Row setDouble(int field, double value) {
+            ColumnarList.this.setDouble(this.index, field, value);
+            return this;
+        }
+    }
+
+    private final Schema schema;
+    private final FieldType[] types;
+    // One array per field; only the slot matching the field's type is non-null
+    private final int[][] intColumns;
+    private final long[][] longColumns;
+    private final double[][] doubleColumns;
+    private int capacity;
+    private int size;
+
+    /**
+     * @param schema layout of every record in the list; later changes to the
+     *               schema are not picked up
+     * @throws IllegalArgumentException if schema is null or has no fields
+     */
+    public ColumnarList(Schema schema) {
+        if (schema == null || schema.fieldCount() == 0) throw new IllegalArgumentException();
+        int fields = schema.fieldCount();
+        this.schema = schema.frozenCopy();
+        this.types = new FieldType[fields];
+        this.intColumns = new int[fields][];
+        this.longColumns = new long[fields][];
+        this.doubleColumns = new double[fields][];
+        for (int f = 0; f < fields; f++) {
+            this.types[f] = schema.typeOf(f);
+            switch (this.types[f]) {
+                case INT -> this.intColumns[f] = new int[DEFAULT_CAPACITY];
+                case LONG -> this.longColumns[f] = new long[DEFAULT_CAPACITY];
+                case DOUBLE -> this.doubleColumns[f] = new double[DEFAULT_CAPACITY];
+            }
+        }
+        this.capacity = DEFAULT_CAPACITY;
+        this.size = 0;
+    }
+
+    // ---------------------------
+    // Private Helpers
+    // ---------------------------
+    private void growIfNeeded() {
+        if (this.size == this.capacity) {
+            int newCapacity = this.capacity * 2;
+            for (int f = 0; f < this.types.length; f++) {
+                switch (this.types[f]) {
+                    case INT -> this.intColumns[f] = Arrays.copyOf(this.intColumns[f], newCapacity);
+                    case LONG -> this.longColumns[f] = Arrays.copyOf(this.longColumns[f], newCapacity);
+                    case DOUBLE -> this.doubleColumns[f] = Arrays.copyOf(this.doubleColumns[f], newCapacity);
+                }
+            }
+            this.capacity = newCapacity;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException();
+    }
+
+    private int[] intColumn(int field) {
+        int[] column = (field >= 0 && field < this.types.length) ? this.intColumns[field] : null;
+        if (column == null) throw new IllegalArgumentException("Field " + field + " is not an INT field");
+        return column;
+    }
+
+    private long[] longColumn(int field) {
+        long[] column = (field >= 0 && field < this.types.length) ? this.longColumns[field] : null;
+        if (column == null) throw new IllegalArgumentException("Field " + field + " is not a LONG field");
+        return column;
+    }
+
+    private double[] doubleColumn(int field) {
+        double[] column = (field >= 0 && field < this.types.length) ? this.doubleColumns[field] : null;
+        if (column == null) throw new IllegalArgumentException("Field " + field + " is not a DOUBLE field");
+        return column;
+    }
+
+    // -------------------
+    // Row Methods
+    // -------------------
+
+    /**
+     * Appends a record with every field set to zero.
+     *
+     * @return a view of the new row, for filling in its fields
+     */
+    public Row addRow() {
+        growIfNeeded();
+        return new Row(this.size++);
+    }
+
+    /**
+     * Returns a new view of the record at the specified position.
+     *
+     * @param index position of the record
+     * @return a view of the record
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    public Row get(int index) {
+        checkIndex(index);
+        return new Row(index);
+    }
+
+    /**
+     * Returns an unpositioned view meant to be reused across rows with
+     * {@link Row#moveTo(int)}. Field access throws
+     * {@code IndexOutOfBoundsException} until the view has been positioned.
+     *
+     * @return a reusable view
+     */
+    public Row cursor() {
+        return new Row(-1);
+    }
+
+    /**
+     * Removes the record at the specified position, shifting later records
+     * down in every column.
+     *
+     * @param index position of the record to remove
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    public void remove(int index) {
+        checkIndex(index);
+        int numMoved = this.size - index - 1;
+        for (int f = 0; f < this.types.length; f++) {
+            switch (this.types[f]) {
+                case INT -> {
+                    System.arraycopy(this.intColumns[f], index + 1, this.intColumns[f], index, numMoved);
+                    this.intColumns[f][this.size - 1] = 0;
+                }
+                case LONG -> {
+                    System.arraycopy(this.longColumns[f], index + 1, this.longColumns[f], index, numMoved);
+                    this.longColumns[f][this.size - 1] = 0L;
+                }
+                case DOUBLE -> {
+                    System.arraycopy(this.doubleColumns[f], index + 1, this.doubleColumns[f], index, numMoved);
+                    this.doubleColumns[f][this.size - 1] = 0.0;
+                }
+            }
+        }
+        this.size--;
+    }
+
+    // -------------------
+    // Field Accessors
+    // -------------------
+    public int getInt(int index, int field) {
+        checkIndex(index);
+        return intColumn(field)[index];
+    }
+
+    public long getLong(int index, int field) {
+        checkIndex(index);
+        return longColumn(field)[index];
+    }
+
+    public double getDouble(int index, int field) {
+        checkIndex(index);
+        return doubleColumn(field)[index];
+    }
+
+    public void setInt(int index, int field, int value) {
+        checkIndex(index);
+        intColumn(field)[index] = value;
+    }
+
+    public void setLong(int index, int field, long value) {
+        checkIndex(index);
+        longColumn(field)[index] = value;
+    }
+
+    public void setDouble(int index, int field, double value) {
+        checkIndex(index);
+        doubleColumn(field)[index] = value;
+    }
+
+    // -------------------
+    // Column Scans
+    // -------------------
+
+    /**
+     * Sums an INT or LONG field over every record.
+     *
+     * @param field position of the field
+     * @return the sum of the field
+     * @throws IllegalArgumentException if the field is not INT or LONG
+     */
+    public long sumLong(int field) {
+        long sum = 0;
+        if (field >= 0 && field < this.types.length && this.types[field] == FieldType.INT) {
+            int[] column = this.intColumns[field];
+            for (int i = 0; i < this.size; i++) sum += column[i];
+        } else {
+            long[] column = longColumn(field);
+            for (int i = 0; i < this.size; i++) sum += column[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Sums a DOUBLE field over every record.
+     *
+     * @param field position of the field
+     * @return the sum of the field
+     * @throws IllegalArgumentException if the field is not DOUBLE
+     */
+    public double sumDouble(int field) {
+        double[] column = doubleColumn(field);
+        double sum = 0.0;
+        for (int i = 0; i < this.size; i++) sum += column[i];
+        return sum;
+    }
+
+    /**
+     * Counts the records whose INT field matches the predicate.
+     *
+     * @throws IllegalArgumentException if the field is not INT
+     */
+    public int countIfInt(int field, IntPredicate predicate) {
+        int[] column = intColumn(field);
+        int count = 0;
+        for (int i = 0; i < this.size; i++) {
+            if (predicate.test(column[i])) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Counts the records whose LONG field matches the predicate.
+     *
+     * @throws IllegalArgumentException if the field is not LONG
+     */
+    public int countIfLong(int field, LongPredicate predicate) {
+        long[] column = longColumn(field);
+        int count = 0;
+        for (int i = 0; i < this.size; i++) {
+            if (predicate.test(column[i])) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Counts the records whose DOUBLE field matches the predicate.
+     *
+     * @throws IllegalArgumentException if the field is not DOUBLE
+     */
+    public int countIfDouble(int field, DoublePredicate predicate) {
+        double[] column = doubleColumn(field);
+        int count = 0;
+        for (int i = 0; i < this.size; i++) {
+            if (predicate.test(column[i])) count++;
+        }
+        return count;
+    }
+
+    // -------------------
+    // Queries
+    // -------------------
+    /**
+     * @return the list's frozen copy of its schema
+     */
+    public Schema schema() {
+        return this.schema;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public void clear() {
+        for (int f = 0; f < this.types.length; f++) {
+            switch (this.types[f]) {
+                case INT -> Arrays.fill(this.intColumns[f], 0, this.size, 0);
+                case LONG -> Arrays.fill(this.longColumns[f], 0, this.size, 0L);
+                case DOUBLE -> Arrays.fill(this.doubleColumns[f], 0, this.size, 0.0);
+            }
+        }
+        this.size = 0;
+    }
+}
@@ -0,0 +1,62 @@
+package DataStructures;
+
+/**
+ * One range event in an {@link ArrayList}'s change feed.
+ * <p>
+ * Ranges are half-open, {@code [from, to)}, and use the indices the list had
+ * at the moment the event happened, so a batch of events can be replayed in
+ * order against a copy of the list:
+ * <ul>
+ * <li>INSERTED: new elements now occupy {@code from .. to-1}</li>
+ * <li>REMOVED: the elements that were at {@code from .. to-1} are gone</li>
+ * <li>SET: the elements at {@code from .. to-1} were replaced in place</li>
+ * </ul>
+ */
+public final class ListChange {
+    public enum Kind { INSERTED, REMOVED, SET }
+
+    private final Kind kind;
+    private final int from;
+    private final int to;
+
+    public ListChange(Kind kind, int from, int to) {
+        if (kind == null || from < 0 || to <= from) throw new IllegalArgumentException();
+        this.kind = kind;
+        this.from = from;
+        this.to = to;
+    }
+
+    public Kind kind() {
+        return this.kind;
+    }
+
+    public int from() {
+        return this.from;
+    }
+
+    public int to() {
+        return this.to;
+    }
+
+    /** @return number of positions covered by the event */
+    public int count() {
+        return this.to - this.from;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof ListChange)) return false;
+        ListChange change = (ListChange) other;
+        return this.kind == change.kind && this.from == change.from && this.to == change.to;
+    }
+
+    @Override
+    public int hashCode() {
+        return (this.kind.hashCode() * 31 + this.from) * 31 + this.to;
+    }
+
+    @Override
+    public String toString() {
+        return this.kind + "[" + this.from + ".." + this.to + ")";
+    }
+}
@@ -0,0 +1,17 @@
+package DataStructures;
+
+/**
+ * Receives batches of range events from an {@link ArrayList}'s change feed.
+ */
+@FunctionalInterface
+public interface ListChangeListener {
+    /**
+     * Called by {@link ArrayList#flushChanges()} with every event recorded
+     * since the previous flush, oldest first. Adjacent events of the same kind
+     * have already been merged into single ranges. The batch is shared by all
+     * listeners and must not be modified.
+     *
+     * @param changes the events of this flush, never empty
+     */
+    public void onChanges(ArrayList<ListChange> changes);
+}
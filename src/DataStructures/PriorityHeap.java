@@ -0,0 +1,227 @@
+package DataStructures;
+
+import ADTs.CollectionADT;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.NoSuchElementException;
+
+/**
+ * A d-ary min-heap stored in an {@link ArrayList}.
+ * <p>
+ * The smallest element according to the comparator is always at index 0, so
+ * {@link #peek()} is O(1) and {@link #push}/{@link #pop()} are O(log n) with
+ * no shifting of the rest of the list. A fan-out larger than 2 makes the heap
+ * shallower and keeps each node's children next to each other in the buffer,
+ * trading a few more comparisons per level for fewer cache misses.
+ * <p>
+ * An indexed heap also tracks where each element sits, which makes
+ * {@link #contains} O(1) and enables {@link #decreaseKey}. Elements of an
+ * indexed heap must be distinct according to {@code equals}.
+ *
+ * @param <T> the type of elements in the heap
+ */
+public class PriorityHeap<T> implements CollectionADT<T> {
+    private static final int DEFAULT_ARITY = 2;
+
+    private final ArrayList<T> heap;
+    private final Comparator<? super T> comparator;
+    private final int arity;
+    private final HashMap<T, Integer> positions; // null unless indexed
+
+    public PriorityHeap(Comparator<? super T> comparator) {
+        this(comparator, DEFAULT_ARITY, false);
+    }
+
+    /**
+     * @param comparator ordering of the elements; the smallest is popped first
+     * @param arity      number of children per node, at least 2
+     * @param indexed    whether to track element positions for decreaseKey
+     * @throws IllegalArgumentException if comparator is null or arity is less than 2
+     */
+    public PriorityHeap(Comparator<? super T> comparator, int arity, boolean indexed) {
+        this(new ArrayList<>(), comparator, arity, indexed);
+    }
+
+    private PriorityHeap(ArrayList<T> heap, Comparator<? super T> comparator, int arity, boolean indexed) {
+        if (comparator == null || arity < 2) throw new IllegalArgumentException();
+        this.heap = heap;
+        this.comparator = comparator;
+        this.arity = arity;
+        this.positions = indexed ? new HashMap<>() : null;
+    }
+
+    /**
+     * Builds a heap in O(n) by reordering an existing list in place. The heap
+     * takes the list over as its storage; the caller should not modify the
+     * list afterwards.
+     *
+     * @param list       elements to heapify; becomes the heap's storage
+     * @param comparator ordering of the elements
+     * @param arity      number of children per node, at least 2
+     * @param indexed    whether to track element positions for decreaseKey
+     * @return a heap over the list's elements
+     * @throws IllegalArgumentException if list or comparator is null, arity is
+     *                                  less than 2, or an indexed heap is given
+     *                                  duplicate elements
+     */
+    public static <T> PriorityHeap<T> heapify(ArrayList<T> list, Comparator<? super T> comparator, int arity,
+            boolean indexed) {
+        if (list == null) throw new IllegalArgumentException();
+        PriorityHeap<T> result = new PriorityHeap<>(list, comparator, arity, indexed);
+        if (indexed) {
+            for (int i = 0; i < list.size(); i++) {
+                if (result.positions.put(list.get(i), i) != null) throw new IllegalArgumentException();
+            }
+        }
+        if (list.size() > 1) {
+            // Division truncates toward zero, so the last parent is only meaningful with two or more elements
+            for (int i = (list.size() - 2) / arity; i >= 0; i--) {
+                result.siftDown(i);
+            }
+        }
+        return result;
+    }
+
+    // ---------------------------
+    // Private Helpers: sifting
+    // ---------------------------
+    private void place(int index, T item) {
+        this.heap.set(index, item);
+        if (this.positions != null) this.positions.put(item, index);
+    }
+
+    private void siftUp(int index) {
+        T item = this.heap.get(index);
+        while (index > 0) {
+            int parent = (index - 1) / this.arity;
+            T parentItem = this.heap.get(parent);
+            if (this.comparator.compare(item, parentItem) >= 0) break;
+            place(index, parentItem);
+            index = parent;
+        }
+        place(index, item);
+    }
+
+    private void siftDown(int index) {
+        T item = this.heap.get(index);
+        int n = this.heap.size();
+        while (true) {
+            int firstChild = index * this.arity + 1;
+            if (firstChild >= n) break;
+            int lastChild = Math.min(firstChild + this.arity, n);
+            int best = firstChild;
+            T bestItem = this.heap.get(firstChild);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                T childItem = this.heap.get(child);
+                if (this.comparator.compare(childItem, bestItem) < 0) {
+                    best = child;
+                    bestItem = childItem;
+                }
+            }
+            if (this.comparator.compare(bestItem, item) >= 0) break;
+            place(index, bestItem);
+            index = best;
+        }
+        place(index, item);
+    }
+
+    // -------------------
+    // Heap Operations
+    // -------------------
+
+    /**
+     * Adds an element to the heap.
+     *
+     * @param item element to add
+     * @throws IllegalArgumentException if item is null, or the heap is indexed
+     *                                  and already contains the item
+     */
+    public void push(T item) {
+        if (item == null) throw new IllegalArgumentException();
+        if (this.positions != null && this.positions.containsKey(item)) throw new IllegalArgumentException();
+        this.heap.addLast(item);
+        siftUp(this.heap.size() - 1);
+    }
+
+    /**
+     * Removes and returns the smallest element.
+     *
+     * @return the smallest element
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public T pop() {
+        if (isEmpty()) throw new NoSuchElementException();
+        T top = this.heap.get(0);
+        T last = this.heap.removeLast();
+        if (this.positions != null) this.positions.remove(top);
+        if (!this.heap.isEmpty()) {
+            place(0, last);
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * Returns the smallest element without removing it.
+     *
+     * @return the smallest element
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public T peek() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return this.heap.get(0);
+    }
+
+    /**
+     * Replaces an element with one that orders no later, moving it towards the
+     * top of the heap as needed.
+     *
+     * @param existing    element currently in the heap
+     * @param replacement element to take its place
+     * @throws IllegalStateException if the heap is not indexed
+     * @throws NoSuchElementException if existing is not in the heap
+     * @throws IllegalArgumentException if replacement is null, orders after
+     *                                  existing, or is a different element
+     *                                  already in the heap
+     */
+    public void decreaseKey(T existing, T replacement) {
+        if (this.positions == null) throw new IllegalStateException();
+        if (replacement == null) throw new IllegalArgumentException();
+        Integer index = this.positions.get(existing);
+        if (index == null) throw new NoSuchElementException();
+        if (this.comparator.compare(replacement, existing) > 0) throw new IllegalArgumentException();
+        if (!replacement.equals(existing) && this.positions.containsKey(replacement)) throw new IllegalArgumentException();
+        this.positions.remove(existing);
+        place(index, replacement);
+        siftUp(index);
+    }
+
+    // -------------------
+    // CollectionADT
+    // -------------------
+    @Override
+    public void clear() {
+        this.heap.clear();
+        if (this.positions != null) this.positions.clear();
+    }
+
+    @Override
+    public boolean contains(T item) {
+        return (this.positions != null) ? this.positions.containsKey(item) : this.heap.contains(item);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.heap.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return this.heap.size();
+    }
+
+    // Optional: Detailed state for debugging
+    public String toDetailedString() {
+        return "PriorityHeap[Arity=" + arity + ", Indexed=" + (positions != null) + "] " + heap.toDetailedString();
+    }
+}
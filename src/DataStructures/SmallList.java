@@ -0,0 +1,236 @@
+package DataStructures;
+
+import ADTs.ListADT;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Arrays;
+
+/**
+ * A list tuned for the common case of holding only a few elements.
+ * <p>
+ * Up to four elements are stored directly in fields of the list object, so a
+ * tiny list is a single allocation with no separate backing array. Adding a
+ * fifth element inflates the list to an array-backed buffer that then grows
+ * like {@link ArrayList}'s. {@link #clear()} drops the buffer and returns the
+ * list to inline storage.
+ */
+public class SmallList<T> implements ListADT<T> {
+    private static final int INLINE_CAPACITY = 4;
+    private static final int INFLATED_CAPACITY = 8;
+
+    private T e0;
+    private T e1;
+    private T e2;
+    private T e3;
+    private T[] buffer; // null while the elements are stored inline
+    private int size;
+
+    public SmallList() {
+        this.size = 0;
+    }
+
+    // ---------------------------
+    // Private Helpers: storage
+    // ---------------------------
+    private T inline(int index) {
+        return switch (index) {
+            case 0 -> this.e0;
+            case 1 -> this.e1;
+            case 2 -> this.e2;
+            default -> this.e3;
+        };
+    }
+
+    private void setInline(int index, T item) {
+        switch (index) {
+            case 0 -> this.e0 = item;
+            case 1 -> this.e1 = item;
+            case 2 -> this.e2 = item;
+            default -> this.e3 = item;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void inflate() {
+        this.buffer = (T[]) new Object[INFLATED_CAPACITY];
+        this.buffer[0] = this.e0;
+        this.buffer[1] = this.e1;
+        this.buffer[2] = this.e2;
+        this.buffer[3] = this.e3;
+        this.e0 = this.e1 = this.e2 = this.e3 = null;
+    }
+
+    private void growIfNeeded() {
+        if (this.buffer == null) {
+            if (this.size == INLINE_CAPACITY) inflate();
+        } else if (this.size == this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+        }
+    }
+
+    // -------------------
+    // Add Methods
+    // -------------------
+    @Override
+    public void addLast(T item) {
+        add(this.size, item);
+    }
+
+    @Override
+    public void addFirst(T item) {
+        add(0, item);
+    }
+
+    @Override
+    public void add(int index, T item) {
+        if (item == null) throw new IllegalArgumentException();
+        if (index < 0 || index > this.size) throw new IndexOutOfBoundsException();
+        growIfNeeded();
+        if (this.buffer == null) {
+            for (int i = this.size; i > index; i--) {
+                setInline(i, inline(i - 1));
+            }
+            setInline(index, item);
+        } else {
+            System.arraycopy(this.buffer, index, this.buffer, index + 1, this.size - index);
+            this.buffer[index] = item;
+        }
+        this.size++;
+    }
+
+    @Override
+    public boolean addAfter(T existing, T item) {
+        if (existing == null || item == null) throw new IllegalArgumentException();
+        int i = indexOf(existing);
+        if (i == -1) return false;
+        add(i + 1, item);
+        return true;
+    }
+
+    // -------------------
+    // Remove Methods
+    // -------------------
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return remove(0);
+    }
+
+    @Override
+    public T removeLast() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return remove(this.size - 1);
+    }
+
+    @Override
+    public T remove(int index) {
+        if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException();
+        T removed;
+        if (this.buffer == null) {
+            removed = inline(index);
+            for (int i = index; i < this.size - 1; i++) {
+                setInline(i, inline(i + 1));
+            }
+            setInline(this.size - 1, null);
+        } else {
+            removed = this.buffer[index];
+            System.arraycopy(this.buffer, index + 1, this.buffer, index, this.size - index - 1);
+            this.buffer[this.size - 1] = null;
+        }
+        this.size--;
+        return removed;
+    }
+
+    @Override
+    public boolean remove(T item) {
+        int i = indexOf(item);
+        if (i == -1) return false;
+        remove(i);
+        return true;
+    }
+
+    // -------------------
+    // Accessors & Queries
+    // -------------------
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException();
+        return (this.buffer == null) ? inline(index) : this.buffer[index];
+    }
+
+    @Override
+    public T set(int index, T item) {
+        if (item == null) throw new IllegalArgumentException();
+        if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException();
+        T old = get(index);
+        if (this.buffer == null) {
+            setInline(index, item);
+        } else {
+            this.buffer[index] = item;
+        }
+        return old;
+    }
+
+    @Override
+    public T first() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return get(0);
+    }
+
+    @Override
+    public T last() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return get(this.size - 1);
+    }
+
+    @Override
+    public int indexOf(T item) {
+        if (this.buffer == null) {
+            for (int i = 0; i < this.size; i++) {
+                if (Objects.equals(item, inline(i))) return i;
+            }
+            return -1;
+        }
+        for (int i = 0; i < this.size; i++) {
+            if (Objects.equals(item, this.buffer[i])) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(T item) {
+        return indexOf(item) != -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public void clear() {
+        this.e0 = this.e1 = this.e2 = this.e3 = null;
+        this.buffer = null;
+        this.size = 0;
+    }
+
+    /**
+     * @return true if the elements are stored in fields rather than a buffer
+     */
+    public boolean isInline() {
+        return this.buffer == null;
+    }
+
+    // Optional: Detailed state for debugging
+    public String toDetailedString() {
+        Object[] items = new Object[size];
+        for (int i = 0; i < size; i++) items[i] = get(i);
+        return "SmallList[Size=" + size + ", " + (buffer == null ? "Inline" : "Capacity=" + buffer.length) + "] "
+                + Arrays.toString(items);
+    }
+}
@@ -0,0 +1,387 @@
+package DataStructures;
+
+import ADTs.ListADT;
+import ADTs.ListView;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Arrays;
+
+/**
+ * A list made of small array nodes, for workloads that insert and remove at
+ * arbitrary positions.
+ * <p>
+ * Each node holds up to {@code nodeCapacity} elements, so a middle insert or
+ * remove only shifts elements inside one node instead of the whole tail. A
+ * full node is split in half; after a removal a node is merged into a
+ * neighbour when the two together fill at most three quarters of a node, and
+ * empty nodes are dropped. A node that falls below a quarter full and cannot
+ * merge takes elements from a neighbour instead, so every node but the last
+ * stays at least a quarter full and the node count is O(size / nodeCapacity).
+ * Nodes are kept in list order in a directory array
+ * with a Fenwick tree of node sizes on top, so positional access
+ * ({@code get}, {@code set}, {@code add(int, T)}, {@code remove(int)}) finds
+ * its node in O(log n). The tree is updated in place for ordinary edits,
+ * extended in O(log n) when a node is appended, and rebuilt in
+ * O(n / nodeCapacity) only when a split or merge changes the node layout.
+ */
+public class UnrolledLinkedList<T> implements ListADT<T> {
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+    private static final int MIN_NODE_CAPACITY = 4;
+    private static final int INITIAL_NODES = 4;
+
+    private static final class Node {
+        final Object[] items;
+        int count;
+
+        Node(int capacity) {
+            this.items = new Object[capacity];
+        }
+    }
+
+    private final int nodeCapacity;
+    private final int mergeThreshold;
+    private final int minFill;
+    private Node[] nodes;
+    private int nodeCount;
+    private int[] tree; // Fenwick tree over nodes[i].count, 1-based
+    private int size;
+    private int locatedOffset;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * @param nodeCapacity number of elements each node can hold
+     * @throws IllegalArgumentException if nodeCapacity is less than 4
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < MIN_NODE_CAPACITY) throw new IllegalArgumentException();
+        this.nodeCapacity = nodeCapacity;
+        this.mergeThreshold = nodeCapacity * 3 / 4;
+        this.minFill = nodeCapacity / 4;
+        this.nodes = new Node[INITIAL_NODES];
+        this.tree = new int[INITIAL_NODES + 1];
+        this.nodeCount = 0;
+        this.size = 0;
+    }
+
+    // ---------------------------
+    // Private Helpers: node index
+    // ---------------------------
+
+    // Returns the slot of the node holding position index and leaves the position within it in locatedOffset
+    private int locate(int index) {
+        int slot = 0;
+        int remaining = index;
+        for (int step = Integer.highestOneBit(this.nodeCount); step > 0; step >>= 1) {
+            int next = slot + step;
+            if (next <= this.nodeCount && this.tree[next] <= remaining) {
+                slot = next;
+                remaining -= this.tree[next];
+            }
+        }
+        this.locatedOffset = remaining;
+        return slot;
+    }
+
+    private void adjustCount(int slot, int delta) {
+        for (int i = slot + 1; i <= this.nodeCount; i += i & -i) {
+            this.tree[i] += delta;
+        }
+    }
+
+    private int prefixCount(int nodes) {
+        int sum = 0;
+        for (int i = nodes; i > 0; i -= i & -i) {
+            sum += this.tree[i];
+        }
+        return sum;
+    }
+
+    // Adds a node after the last one, filling in its tree entry from the existing prefix sums
+    private void appendNode(Node node) {
+        insertNode(this.nodeCount, node);
+        if (this.tree.length < this.nodes.length + 1) this.tree = Arrays.copyOf(this.tree, this.nodes.length + 1);
+        int m = this.nodeCount;
+        this.tree[m] = prefixCount(m - 1) - prefixCount(m - (m & -m)) + node.count;
+    }
+
+    private void rebuildIndex() {
+        if (this.tree.length < this.nodes.length + 1) this.tree = new int[this.nodes.length + 1];
+        for (int i = 1; i <= this.nodeCount; i++) {
+            this.tree[i] = this.nodes[i - 1].count;
+        }
+        for (int i = 1; i <= this.nodeCount; i++) {
+            int parent = i + (i & -i);
+            if (parent <= this.nodeCount) this.tree[parent] += this.tree[i];
+        }
+    }
+
+    private void insertNode(int slot, Node node) {
+        if (this.nodeCount == this.nodes.length) {
+            this.nodes = Arrays.copyOf(this.nodes, this.nodes.length * 2);
+        }
+        System.arraycopy(this.nodes, slot, this.nodes, slot + 1, this.nodeCount - slot);
+        this.nodes[slot] = node;
+        this.nodeCount++;
+    }
+
+    private void removeNode(int slot) {
+        System.arraycopy(this.nodes, slot + 1, this.nodes, slot, this.nodeCount - slot - 1);
+        this.nodes[--this.nodeCount] = null;
+    }
+
+    private void split(int slot) {
+        Node left = this.nodes[slot];
+        Node right = new Node(this.nodeCapacity);
+        int keep = left.count / 2;
+        right.count = left.count - keep;
+        System.arraycopy(left.items, keep, right.items, 0, right.count);
+        Arrays.fill(left.items, keep, left.count, null);
+        left.count = keep;
+        insertNode(slot + 1, right);
+        rebuildIndex();
+    }
+
+    private void mergeWithNext(int slot) {
+        Node left = this.nodes[slot];
+        Node right = this.nodes[slot + 1];
+        System.arraycopy(right.items, 0, left.items, left.count, right.count);
+        left.count += right.count;
+        removeNode(slot + 1);
+        rebuildIndex();
+    }
+
+    // Evens out an underfull node and its fuller neighbour; their combined count exceeds mergeThreshold
+    private void borrow(int slot) {
+        Node node = this.nodes[slot];
+        if (slot + 1 < this.nodeCount) {
+            Node next = this.nodes[slot + 1];
+            int moved = (next.count - node.count) / 2;
+            System.arraycopy(next.items, 0, node.items, node.count, moved);
+            System.arraycopy(next.items, moved, next.items, 0, next.count - moved);
+            Arrays.fill(next.items, next.count - moved, next.count, null);
+            node.count += moved;
+            next.count -= moved;
+            adjustCount(slot, moved - 1);
+            adjustCount(slot + 1, -moved);
+        } else {
+            Node previous = this.nodes[slot - 1];
+            int moved = (previous.count - node.count) / 2;
+            System.arraycopy(node.items, 0, node.items, moved, node.count);
+            System.arraycopy(previous.items, previous.count - moved, node.items, 0, moved);
+            Arrays.fill(previous.items, previous.count - moved, previous.count, null);
+            node.count += moved;
+            previous.count -= moved;
+            adjustCount(slot, moved - 1);
+            adjustCount(slot - 1, -moved);
+        }
+    }
+
+    // Package-private so tests can check that removals keep nodes reasonably full
+    int[] nodeSizes() {
+        int[] sizes = new int[this.nodeCount];
+        for (int n = 0; n < this.nodeCount; n++) {
+            sizes[n] = this.nodes[n].count;
+        }
+        return sizes;
+    }
+
+    // -------------------
+    // Add Methods
+    // -------------------
+    @Override
+    public void addLast(T item) {
+        add(this.size, item);
+    }
+
+    @Override
+    public void addFirst(T item) {
+        add(0, item);
+    }
+
+    @Override
+    public void add(int index, T item) {
+        if (item == null) throw new IllegalArgumentException();
+        if (index < 0 || index > this.size) throw new IndexOutOfBoundsException();
+        int slot;
+        int offset;
+        if (index == this.size) {
+            // Appends start a fresh node rather than splitting, so sequential adds fill nodes completely
+            if (this.nodeCount == 0 || this.nodes[this.nodeCount - 1].count == this.nodeCapacity) {
+                appendNode(new Node(this.nodeCapacity));
+            }
+            slot = this.nodeCount - 1;
+            offset = this.nodes[slot].count;
+        } else {
+            slot = locate(index);
+            offset = this.locatedOffset;
+            if (this.nodes[slot].count == this.nodeCapacity) {
+                split(slot);
+                int leftCount = this.nodes[slot].count;
+                if (offset > leftCount) {
+                    slot++;
+                    offset -= leftCount;
+                }
+            }
+        }
+        Node node = this.nodes[slot];
+        System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+        node.items[offset] = item;
+        node.count++;
+        this.size++;
+        adjustCount(slot, 1);
+    }
+
+    @Override
+    public boolean addAfter(T existing, T item) {
+        if (existing == null || item == null) throw new IllegalArgumentException();
+        int i = indexOf(existing);
+        if (i == -1) return false;
+        add(i + 1, item);
+        return true;
+    }
+
+    // -------------------
+    // Remove Methods
+    // -------------------
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return remove(0);
+    }
+
+    @Override
+    public T removeLast() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return remove(this.size - 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException();
+        int slot = locate(index);
+        int offset = this.locatedOffset;
+        Node node = this.nodes[slot];
+        T removed = (T) node.items[offset];
+        System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+        node.items[--node.count] = null;
+        this.size--;
+        if (node.count == 0) {
+            removeNode(slot);
+            rebuildIndex();
+        } else if (slot + 1 < this.nodeCount && node.count + this.nodes[slot + 1].count <= this.mergeThreshold) {
+            mergeWithNext(slot);
+        } else if (slot > 0 && this.nodes[slot - 1].count + node.count <= this.mergeThreshold) {
+            mergeWithNext(slot - 1);
+        } else if (node.count < this.minFill && this.nodeCount > 1) {
+            borrow(slot);
+        } else {
+            adjustCount(slot, -1);
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean remove(T item) {
+        int i = indexOf(item);
+        if (i == -1) return false;
+        remove(i);
+        return true;
+    }
+
+    // -------------------
+    // Accessors & Queries
+    // -------------------
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException();
+        int slot = locate(index);
+        return (T) this.nodes[slot].items[this.locatedOffset];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int index, T item) {
+        if (item == null) throw new IllegalArgumentException();
+        if (index < 0 || index >= this.size) throw new IndexOutOfBoundsException();
+        Node node = this.nodes[locate(index)];
+        T old = (T) node.items[this.locatedOffset];
+        node.items[this.locatedOffset] = item;
+        return old;
+    }
+
+    @Override
+    public T first() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return get(0);
+    }
+
+    @Override
+    public T last() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return get(this.size - 1);
+    }
+
+    @Override
+    public int indexOf(T item) {
+        int base = 0;
+        for (int n = 0; n < this.nodeCount; n++) {
+            Node node = this.nodes[n];
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(item, node.items[i])) return base + i;
+            }
+            base += node.count;
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ListView<T> view() {
+        return new ListView<>(sink -> {
+            int remaining = this.size; // fixed up front so collecting into this list terminates
+            for (int n = 0; n < this.nodeCount && remaining > 0; n++) {
+                Node node = this.nodes[n];
+                for (int i = 0; i < node.count && remaining > 0; i++, remaining--) {
+                    if (!sink.accept((T) node.items[i])) return;
+                }
+            }
+        });
+    }
+
+    @Override
+    public boolean contains(T item) {
+        return indexOf(item) != -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.nodes, 0, this.nodeCount, null);
+        this.nodeCount = 0;
+        this.size = 0;
+    }
+
+    // Optional: Detailed state for debugging
+    public String toDetailedString() {
+        StringBuilder sb = new StringBuilder("UnrolledLinkedList[Size=" + size + ", Nodes=" + nodeCount
+                + ", NodeCapacity=" + nodeCapacity + "]");
+        for (int n = 0; n < nodeCount; n++) {
+            sb.append(' ').append(Arrays.toString(Arrays.copyOf(nodes[n].items, nodes[n].count)));
+        }
+        return sb.toString();
+    }
+}
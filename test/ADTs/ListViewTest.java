@@ -0,0 +1,106 @@
+package ADTs;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import DataStructures.ArrayList;
+import java.util.NoSuchElementException;
+
+/**
+ * Unit tests for the ListView class.
+ * Covers laziness, fusing of filter/map/limit, and early termination of
+ * short-circuiting terminal operations.
+ */
+@DisplayName("ListView<T> Tests")
+class ListViewTest {
+  private ArrayList<Integer> list;
+
+  @BeforeEach
+  void setUp() {
+    list = new ArrayList<>();
+    for (int i = 1; i <= 10; i++) {
+      list.addLast(i); // State: [1, 2, ..., 10]
+    }
+  }
+
+  @Test
+  @DisplayName("filter/map/limit produce the expected elements")
+  void testFilterMapLimit() {
+    ArrayList<String> out = list.view()
+        .filter(i -> i % 2 == 0)
+        .map(i -> "#" + i)
+        .limit(3)
+        .collect(new ArrayList<>());
+    assertEquals(3, out.size(), "limit(3) should keep three elements");
+    assertEquals("#2", out.get(0), "First even element mapped");
+    assertEquals("#6", out.get(2), "Third even element mapped");
+    assertEquals(10, list.size(), "The source list should be untouched");
+  }
+
+  @Test
+  @DisplayName("Stages do nothing until a terminal operation runs")
+  void testLazy() {
+    int[] calls = { 0 };
+    ListView<Integer> view = list.view().filter(i -> {
+      calls[0]++;
+      return true;
+    });
+    assertEquals(0, calls[0], "Building a view should not touch the list");
+    list.addLast(11);
+    assertEquals(11, view.count(), "Terminal should see the list as it is when called");
+    assertEquals(11, calls[0], "Each element should be tested exactly once");
+  }
+
+  @Test
+  @DisplayName("limit, first and contains stop the pass early")
+  void testShortCircuit() {
+    int[] visited = { 0 };
+    ListView<Integer> counted = list.view().map(i -> {
+      visited[0]++;
+      return i;
+    });
+
+    assertEquals(2, counted.limit(2).count(), "limit(2) should produce two elements");
+    assertEquals(2, visited[0], "limit(2) should stop after two elements");
+
+    visited[0] = 0;
+    assertEquals(1, counted.first(), "first() should return the first element");
+    assertEquals(1, visited[0], "first() should stop after one element");
+
+    visited[0] = 0;
+    assertTrue(counted.contains(4), "contains(4) should find 4");
+    assertEquals(4, visited[0], "contains(4) should stop at the match");
+    assertFalse(counted.contains(42), "contains(42) should be false");
+  }
+
+  @Test
+  @DisplayName("Collecting a view into its own list terminates")
+  void testCollectIntoSource() {
+    list.view().filter(i -> i > 8).collect(list);
+    assertEquals(12, list.size(), "Only the two elements present at the start should be appended");
+    assertEquals(10, list.last(), "The last appended element should be 10");
+  }
+
+  @Test
+  @DisplayName("Shrinking the source during a pass never yields stale elements")
+  void testShrinkSourceDuringPass() {
+    ArrayList<Integer> seen = new ArrayList<>();
+    list.view().forEach(i -> {
+      seen.addLast(i);
+      list.removeFirst();
+    });
+    assertEquals(5, seen.size(), "The pass should stop once it reaches the shrunken end");
+    assertFalse(seen.contains(null), "No stale slot should be passed to the stages");
+    assertEquals(9, seen.last(), "Every other element is visited as the front is removed");
+  }
+
+  @Test
+  @DisplayName("Empty views and invalid arguments")
+  void testEdgeCases() {
+    assertThrows(NoSuchElementException.class, () -> list.view().filter(i -> i > 100).first(),
+        "first() on an empty view should throw NoSuchElementException");
+    assertEquals(0, list.view().limit(0).count(), "limit(0) should produce nothing");
+    assertThrows(IllegalArgumentException.class, () -> list.view().limit(-1),
+        "limit(-1) should throw IllegalArgumentException");
+    assertFalse(list.view().anyMatch(i -> i > 10), "anyMatch should be false when nothing matches");
+  }
+}
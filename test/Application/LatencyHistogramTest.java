@@ -0,0 +1,64 @@
+package Application;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+/**
+ * Unit tests for the LatencyHistogram class.
+ * Covers exact buckets for small values, bounded relative error for large
+ * ones, and the summary statistics.
+ */
+@DisplayName("LatencyHistogram Tests")
+class LatencyHistogramTest {
+  private LatencyHistogram histogram;
+
+  @BeforeEach
+  void setUp() {
+    histogram = new LatencyHistogram();
+  }
+
+  @Test
+  @DisplayName("Values below 64 are reported exactly")
+  void testSmallValuesExact() {
+    for (int v = 1; v <= 10; v++) {
+      histogram.record(v);
+    }
+    assertEquals(5, histogram.valueAtPercentile(50), "Median of 1..10");
+    assertEquals(9, histogram.valueAtPercentile(90), "90th percentile of 1..10");
+    assertEquals(10, histogram.valueAtPercentile(100), "100th percentile should be the maximum");
+    assertEquals(1, histogram.valueAtPercentile(0), "0th percentile should be the minimum");
+  }
+
+  @Test
+  @DisplayName("Large values land within about 1.6% of their true value")
+  void testLargeValuesBoundedError() {
+    for (long v = 1; v <= 100_000; v++) {
+      histogram.record(v * 1_000);
+    }
+    long[] percentiles = { 50, 90, 99 };
+    for (long p : percentiles) {
+      long exact = p * 1_000 * 1_000;
+      long reported = histogram.valueAtPercentile(p);
+      assertTrue(reported <= exact, "p" + p + " should not overshoot the bucket: " + reported);
+      assertTrue(reported >= exact * 0.984, "p" + p + " should be within 1.6%: " + reported);
+    }
+    assertEquals(100_000_000L, histogram.max(), "max should be exact");
+    assertEquals(1_000L, histogram.min(), "min should be exact");
+  }
+
+  @Test
+  @DisplayName("Summary statistics and reset")
+  void testSummaryAndReset() {
+    assertEquals(0, histogram.valueAtPercentile(50), "Empty histogram reports 0");
+    histogram.record(100);
+    histogram.record(300);
+    histogram.record(-4); // counted as 0
+    assertEquals(3, histogram.count(), "Three values recorded");
+    assertEquals(0, histogram.min(), "Negative values count as 0");
+    assertEquals(300, histogram.max(), "max should be 300");
+    assertEquals(400.0 / 3, histogram.mean(), 1e-9, "mean of 0, 100, 300");
+    histogram.reset();
+    assertEquals(0, histogram.count(), "reset() should clear the count");
+    assertEquals(0, histogram.max(), "reset() should clear the max");
+  }
+}
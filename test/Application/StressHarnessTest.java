@@ -0,0 +1,67 @@
+package Application;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import DataStructures.ArrayList;
+import java.util.concurrent.Executors;
+
+/**
+ * Unit tests for the concurrency stress harness.
+ * Runs small configurations against a correctly synchronized list, which
+ * must pass every invariant, and against deliberately broken lists, whose
+ * lost updates and unexpected exceptions must be reported.
+ */
+@DisplayName("StressHarness Tests")
+class StressHarnessTest {
+  private static final int TASKS = 8;
+  private static final int OPS_PER_TASK = 200;
+
+  private static StressHarness.Result run(SynchronizedList<Integer> list, int writePercent)
+      throws InterruptedException {
+    return StressHarness.run(list, TASKS, OPS_PER_TASK, writePercent, Executors.newFixedThreadPool(4));
+  }
+
+  @Test
+  @DisplayName("A SynchronizedList passes every invariant")
+  void testSynchronizedListClean() throws InterruptedException {
+    StressHarness.Result result = run(new SynchronizedList<>(new ArrayList<>()), 50);
+    assertEquals(0, result.violations, "Unexpected violation: " + result.firstViolation);
+    assertTrue(result.opsPerSecond > 0, "A finished run should report its throughput");
+  }
+
+  @Test
+  @DisplayName("A list that drops appends is reported as losing them")
+  void testDroppedAppendReported() throws InterruptedException {
+    SynchronizedList<Integer> lossy = new SynchronizedList<>(new ArrayList<>()) {
+      private int calls;
+
+      @Override
+      public synchronized void addLast(Integer item) {
+        if (++calls % 10 != 0) super.addLast(item); // every tenth append silently vanishes
+      }
+    };
+    StressHarness.Result result = run(lossy, 100);
+    assertTrue(result.violations > 0, "Dropped appends should be violations");
+    assertNotNull(result.firstViolation, "The first violation should be described");
+    assertTrue(result.firstViolation.contains("addLast(") || result.firstViolation.startsWith("size "),
+        "Expected a lost addLast or a size mismatch, got: " + result.firstViolation);
+  }
+
+  @Test
+  @DisplayName("Every unexpected exception is counted and the first one is described")
+  void testUnexpectedExceptionsReported() throws InterruptedException {
+    int[] thrown = new int[1];
+    SynchronizedList<Integer> broken = new SynchronizedList<>(new ArrayList<>()) {
+      @Override
+      public synchronized Integer last() {
+        thrown[0]++;
+        throw new IllegalStateException("broken last()");
+      }
+    };
+    StressHarness.Result result = run(broken, 0);
+    assertTrue(thrown[0] > 1, "The read-only mix should call last() more than once");
+    assertEquals(thrown[0], result.violations, "Each unexpected exception should count once");
+    assertEquals("unexpected java.lang.IllegalStateException: broken last()", result.firstViolation,
+        "The first unexpected exception should be described");
+  }
+}
@@ -0,0 +1,95 @@
+package Application;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import DataStructures.ArrayList;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Unit tests for the binary trace format.
+ * Records operations through a RecordingList and checks that Trace.read
+ * decodes the same opcodes and arguments, including negative and extreme
+ * values that exercise the zigzag varint encoding.
+ */
+@DisplayName("RecordingList / Trace Round-Trip Tests")
+class TraceTest {
+  private Path file;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    file = Files.createTempFile("trace", ".bin");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  @DisplayName("Recorded operations decode to the same opcodes and arguments")
+  void testRoundTrip() throws IOException {
+    try (RecordingList<Integer> list = new RecordingList<>(new ArrayList<>(), file)) {
+      list.addLast(7);
+      list.addLast(-5);
+      list.add(1, Integer.MAX_VALUE);
+      list.set(0, Integer.MIN_VALUE);
+      list.get(2);
+      list.contains(300);
+      list.removeLast();
+      list.size();
+      list.clear();
+    }
+    Trace trace = Trace.read(file);
+    assertEquals(9, trace.length(), "Every call should produce exactly one record");
+
+    int[][] expected = {
+        { Trace.ADD_LAST, 7, 0 },
+        { Trace.ADD_LAST, -5, 0 },
+        { Trace.ADD, 1, Integer.MAX_VALUE },
+        { Trace.SET, 0, Integer.MIN_VALUE },
+        { Trace.GET, 2, 0 },
+        { Trace.CONTAINS, 300, 0 },
+        { Trace.REMOVE_LAST, 0, 0 },
+        { Trace.SIZE, 0, 0 },
+        { Trace.CLEAR, 0, 0 },
+    };
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i][0], trace.op(i), "Opcode of record " + i);
+      assertEquals(expected[i][1], trace.first(i), "First argument of record " + i);
+      assertEquals(expected[i][2], trace.second(i), "Second argument of record " + i);
+    }
+  }
+
+  @Test
+  @DisplayName("Failed operations are still recorded")
+  void testFailedOperationRecorded() throws IOException {
+    try (RecordingList<Integer> list = new RecordingList<>(new ArrayList<>(), file)) {
+      assertThrows(java.util.NoSuchElementException.class, list::removeFirst,
+          "removeFirst() on an empty list should still throw");
+    }
+    Trace trace = Trace.read(file);
+    assertEquals(1, trace.length(), "The attempted call should be in the trace");
+    assertEquals(Trace.REMOVE_FIRST, trace.op(0), "Opcode should be REMOVE_FIRST");
+  }
+
+  @Test
+  @DisplayName("Files that are not traces are rejected")
+  void testRejectsForeignFile() throws IOException {
+    Files.write(file, new byte[] { 'N', 'O', 'P', 'E', 1 });
+    assertThrows(IOException.class, () -> Trace.read(file), "Wrong magic bytes should throw IOException");
+
+    Files.write(file, new byte[] { 'L', 'T', 'R', 'C', 1, (byte) Trace.ADD, 4 });
+    assertThrows(IOException.class, () -> Trace.read(file), "A truncated record should throw IOException");
+  }
+
+  @Test
+  @DisplayName("A rejected delegate leaves an existing file untouched")
+  void testNullDelegateKeepsFile() throws IOException {
+    Files.write(file, new byte[] { 1, 2, 3 });
+    assertThrows(IllegalArgumentException.class, () -> new RecordingList<Integer>(null, file),
+        "A null delegate should throw IllegalArgumentException");
+    assertEquals(3, Files.size(file), "The file should not be truncated before validation");
+  }
+}
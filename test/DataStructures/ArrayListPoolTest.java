@@ -0,0 +1,102 @@
+package DataStructures;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+/**
+ * Unit tests for the ArrayListPool class.
+ * Covers buffer reuse across acquire/release cycles, growth inside pooled
+ * lists, and the hit-rate metrics.
+ */
+@DisplayName("ArrayListPool Tests")
+class ArrayListPoolTest {
+  private ArrayListPool pool;
+
+  @BeforeEach
+  void setUp() {
+    pool = new ArrayListPool();
+  }
+
+  @Test
+  @DisplayName("Acquired list behaves like a normal ArrayList")
+  void testAcquiredListWorks() {
+    ArrayList<String> list = pool.acquire();
+    list.addLast("A");
+    list.addFirst("B");
+    assertEquals(2, list.size(), "Pooled list should track size normally");
+    assertEquals("B", list.get(0), "'B' should be at index 0");
+    assertEquals("A", list.get(1), "'A' should be at index 1");
+  }
+
+  @Test
+  @DisplayName("First acquire misses, acquire after release hits")
+  void testReleaseThenAcquireHits() {
+    ArrayList<String> first = pool.acquire();
+    assertEquals(0, pool.hits(), "Empty pool cannot serve the first buffer");
+    assertEquals(1, pool.misses(), "First buffer should be counted as a miss");
+
+    first.addLast("A");
+    pool.release(first);
+    assertEquals(1, pool.recycled(), "Released buffer should be recycled");
+    assertTrue(first.isEmpty(), "release() should clear the list");
+
+    ArrayList<String> second = pool.acquire();
+    assertEquals(1, pool.hits(), "Second acquire should reuse the released buffer");
+    assertEquals(0.5, pool.hitRate(), "One hit out of two requests");
+    assertEquals("ArrayList[Size=0, Capacity=10] []", second.toDetailedString(),
+        "Recycled buffer should come back empty at default capacity");
+  }
+
+  @Test
+  @DisplayName("Growth borrows larger buffers and recycles the outgrown ones")
+  void testGrowthUsesPool() {
+    ArrayList<Integer> list = pool.acquire();
+    for (int i = 0; i < 25; i++) {
+      list.addLast(i);
+    }
+    assertEquals(25, list.size(), "All elements should be present after growth");
+    assertEquals(24, list.last(), "Last element should survive both resizes");
+    assertEquals(2, pool.recycled(), "Buffers of 10 and 20 should have been recycled while growing");
+
+    pool.release(list);
+    ArrayList<Integer> again = pool.acquire();
+    for (int i = 0; i < 25; i++) {
+      again.addLast(i);
+    }
+    assertEquals(3, pool.hits(), "Second run should draw all three size classes from the pool");
+  }
+
+  @Test
+  @DisplayName("Released list is still usable")
+  void testReleasedListStillUsable() {
+    ArrayList<String> list = pool.acquire();
+    list.addLast("A");
+    pool.release(list);
+    list.addLast("B");
+    assertEquals(1, list.size(), "List should accept elements after release");
+    assertEquals("B", list.first(), "'B' should be the only element");
+  }
+
+  @Test
+  @DisplayName("Free lists are bounded per size class")
+  void testFreeListBounded() {
+    ArrayListPool small = new ArrayListPool(1, 1);
+    ArrayList<String> a = small.acquire();
+    ArrayList<String> b = small.acquire();
+    small.release(a);
+    small.release(b);
+    assertEquals(1, small.recycled(), "Only one buffer fits on the free list");
+    assertEquals(1, small.dropped(), "The second buffer should be dropped");
+  }
+
+  @Test
+  @DisplayName("Invalid arguments throw IllegalArgumentException")
+  void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new ArrayListPool(0, 4),
+        "Zero size classes should be rejected");
+    assertThrows(IllegalArgumentException.class, () -> new ArrayListPool(4, 0),
+        "Zero arrays per class should be rejected");
+    assertThrows(IllegalArgumentException.class, () -> pool.release(null),
+        "release(null) should throw IllegalArgumentException");
+  }
+}
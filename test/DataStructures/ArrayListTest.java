@@ -491,4 +491,200 @@ class ArrayListTest {
       assertEquals("V", list.last(), "Last added element 'V' should be last");
     }
   }
-}
\ No newline at end of file
+
+  @Nested
+  @DisplayName("Batched Mutations (batch, insert, remove, commit)")
+  class BatchTests {
+
+    @BeforeEach
+    void setupList() {
+      list.addLast("A");
+      list.addLast("B");
+      list.addLast("C");
+      list.addLast("D"); // State: ["A", "B", "C", "D"]
+    }
+
+    @Test
+    @DisplayName("Edits use the original indices and apply together on commit")
+    void testCommitUsesOriginalIndices() {
+      ArrayList<String>.Batch batch = list.batch();
+      batch.remove(1).insert(1, "X").insert(4, "Z").remove(3);
+      assertEquals(4, list.size(), "Nothing should change before commit()");
+      batch.commit();
+      // "X" goes before original index 1 ("B", removed); "D" is removed; "Z" appended
+      assertEquals(4, list.size(), "Two inserts and two removals keep the size at 4");
+      assertEquals("A", list.get(0), "'A' should stay at index 0");
+      assertEquals("X", list.get(1), "'X' should replace the removed 'B'");
+      assertEquals("C", list.get(2), "'C' should stay in place");
+      assertEquals("Z", list.get(3), "'Z' should be appended after the removed 'D'");
+    }
+
+    @Test
+    @DisplayName("Inserts at the same index keep their recorded order")
+    void testInsertsAtSameIndexKeepOrder() {
+      list.batch().insert(2, "X").insert(0, "P").insert(2, "Y").commit();
+      assertEquals(7, list.size(), "Three inserts should grow the list to 7");
+      assertEquals("P", list.get(0), "'P' should be first");
+      assertEquals("X", list.get(3), "'X' should come before 'Y'");
+      assertEquals("Y", list.get(4), "'Y' should come after 'X'");
+      assertEquals("C", list.get(5), "'C' should follow the inserted items");
+    }
+
+    @Test
+    @DisplayName("Commit grows past capacity and handles mass removal")
+    void testCommitGrowsAndShrinks() {
+      ArrayList<String>.Batch grow = list.batch();
+      for (int i = 0; i < 20; i++) {
+        grow.insert(2, "N" + i);
+      }
+      grow.commit();
+      assertEquals(24, list.size(), "Twenty inserts should grow the list past its capacity");
+      assertEquals("N19", list.get(21), "Last inserted item should sit before 'C'");
+      assertEquals("D", list.last(), "'D' should still be last");
+
+      ArrayList<String>.Batch shrink = list.batch();
+      for (int i = 0; i < 23; i++) {
+        shrink.remove(i);
+      }
+      shrink.commit();
+      assertEquals(1, list.size(), "Only one element should remain");
+      assertEquals("D", list.first(), "'D' should be the survivor");
+    }
+
+    @Test
+    @DisplayName("Invalid batch usage throws")
+    void testInvalidBatchUsage() {
+      ArrayList<String>.Batch batch = list.batch();
+      assertThrows(IndexOutOfBoundsException.class, () -> batch.insert(5, "X"),
+          "insert past the original size should throw IndexOutOfBoundsException");
+      assertThrows(IndexOutOfBoundsException.class, () -> batch.remove(4),
+          "remove at the original size should throw IndexOutOfBoundsException");
+      assertThrows(IllegalArgumentException.class, () -> batch.insert(0, null),
+          "insert(null) should throw IllegalArgumentException");
+      batch.remove(0).remove(0);
+      assertThrows(IllegalArgumentException.class, batch::commit,
+          "Removing the same index twice should throw IllegalArgumentException");
+
+      ArrayList<String>.Batch stale = list.batch();
+      list.addLast("E");
+      assertThrows(IllegalStateException.class, stale::commit,
+          "Committing after the list changed size should throw IllegalStateException");
+
+      ArrayList<String>.Batch afterSet = list.batch();
+      list.set(0, "Q");
+      assertThrows(IllegalStateException.class, afterSet::commit,
+          "Committing after set() should throw IllegalStateException");
+
+      ArrayList<String>.Batch afterMove = list.batch();
+      list.add(0, list.remove(2)); // Same size, different element positions
+      assertThrows(IllegalStateException.class, afterMove::commit,
+          "Committing after a same-size remove/add should throw IllegalStateException");
+
+      ArrayList<String>.Batch done = list.batch();
+      done.commit();
+      assertThrows(IllegalStateException.class, done::commit,
+          "Committing twice should throw IllegalStateException");
+    }
+  }
+
+  @Nested
+  @DisplayName("Change Feed (addChangeListener, flushChanges)")
+  class ChangeFeedTests {
+    private ArrayList<ArrayList<ListChange>> batches;
+
+    @BeforeEach
+    void subscribe() {
+      batches = new ArrayList<>();
+      list.addChangeListener(batches::addLast);
+    }
+
+    @Test
+    @DisplayName("Events are held until flushChanges() and merged into ranges")
+    void testEventsBatchedAndMerged() {
+      list.addLast("A");
+      list.addLast("B");
+      list.addLast("C");
+      assertTrue(batches.isEmpty(), "Nothing should be delivered before flushChanges()");
+      list.flushChanges();
+      assertEquals(1, batches.size(), "One flush should deliver one batch");
+      ArrayList<ListChange> changes = batches.first();
+      assertEquals(1, changes.size(), "Three appends should merge into one event");
+      assertEquals(new ListChange(ListChange.Kind.INSERTED, 0, 3), changes.first(), "Appends cover [0..3)");
+
+      list.flushChanges();
+      assertEquals(1, batches.size(), "Flushing with nothing pending should not call listeners");
+    }
+
+    @Test
+    @DisplayName("remove, set and clear produce range events in order")
+    void testRemoveSetClearEvents() {
+      for (int i = 0; i < 6; i++) {
+        list.addLast("E" + i);
+      }
+      list.flushChanges();
+      list.removeLast();
+      list.removeLast(); // Removing from the back merges downwards
+      list.set(0, "X");
+      list.set(1, "Y");
+      list.clear();
+      list.flushChanges();
+      ArrayList<ListChange> changes = batches.last();
+      assertEquals(3, changes.size(), "Expected REMOVED, SET and REMOVED events");
+      assertEquals(new ListChange(ListChange.Kind.REMOVED, 4, 6), changes.get(0), "Two removeLast() calls");
+      assertEquals(new ListChange(ListChange.Kind.SET, 0, 2), changes.get(1), "Two adjacent set() calls");
+      assertEquals(new ListChange(ListChange.Kind.REMOVED, 0, 4), changes.get(2), "clear() removes what is left");
+    }
+
+    @Test
+    @DisplayName("Batch commit reports its edits")
+    void testBatchCommitEvents() {
+      list.addLast("A");
+      list.addLast("B");
+      list.addLast("C");
+      list.flushChanges();
+      list.batch().remove(0).remove(1).insert(3, "X").insert(3, "Y").commit(); // ["C", "X", "Y"]
+      list.flushChanges();
+      ArrayList<ListChange> changes = batches.last();
+      assertEquals(new ListChange(ListChange.Kind.REMOVED, 0, 2), changes.get(0), "Both removals merge");
+      assertEquals(new ListChange(ListChange.Kind.INSERTED, 1, 3), changes.get(1), "Both inserts land at [1..3)");
+    }
+
+    @Test
+    @DisplayName("A listener removing itself during a flush does not skip the next one")
+    void testSelfRemovalDuringFlush() {
+      int[] calls = new int[2];
+      ListChangeListener once = new ListChangeListener() {
+        @Override
+        public void onChanges(ArrayList<ListChange> changes) {
+          calls[0]++;
+          list.removeChangeListener(this);
+        }
+      };
+      list.addChangeListener(once);
+      list.addChangeListener(changes -> calls[1]++);
+      list.addLast("A");
+      list.flushChanges();
+      assertEquals(1, batches.size(), "The first listener should be called");
+      assertEquals(1, calls[0], "The self-removing listener should be called once");
+      assertEquals(1, calls[1], "The listener after it should not be skipped");
+      list.addLast("B");
+      list.flushChanges();
+      assertEquals(1, calls[0], "The removed listener should not be called again");
+      assertEquals(2, calls[1], "The remaining listener should get the second batch");
+    }
+
+    @Test
+    @DisplayName("Removing the last listener stops recording")
+    void testRemoveListener() {
+      ListChangeListener other = changes -> fail("Removed listener should not be called");
+      list.addChangeListener(other);
+      assertTrue(list.removeChangeListener(other), "Subscribed listener should be removed");
+      assertFalse(list.removeChangeListener(other), "Removing twice should return false");
+      list.addLast("A");
+      list.flushChanges();
+      assertEquals(1, batches.size(), "The remaining listener should still be called");
+      assertThrows(IllegalArgumentException.class, () -> list.addChangeListener(null),
+          "addChangeListener(null) should throw IllegalArgumentException");
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package DataStructures;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.util.NoSuchElementException;
+
+/**
+ * Unit tests for the BooleanArrayList class.
+ * Covers bit shifting across word boundaries, word-at-a-time search,
+ * popcount-based counting and the bulk and/or/xor operations.
+ */
+@DisplayName("BooleanArrayList Tests")
+class BooleanArrayListTest {
+  private BooleanArrayList bits;
+
+  @BeforeEach
+  void setUp() {
+    bits = new BooleanArrayList();
+  }
+
+  private static BooleanArrayList fromString(String pattern) {
+    BooleanArrayList list = new BooleanArrayList();
+    for (int i = 0; i < pattern.length(); i++) {
+      list.addLast(pattern.charAt(i) == '1');
+    }
+    return list;
+  }
+
+  @Test
+  @DisplayName("Middle inserts and removals shift bits across word boundaries")
+  void testShiftAcrossWords() {
+    for (int i = 0; i < 130; i++) {
+      bits.addLast(i % 3 == 0);
+    }
+    bits.add(1, true); // every later bit moves up, including across words 0|1 and 1|2
+    assertEquals(131, bits.size(), "Size should be 131 after insert");
+    assertTrue(bits.get(1), "Inserted bit should be at index 1");
+    assertTrue(bits.get(64), "Bit originally at 63 (63 % 3 == 0) should now be at 64");
+    assertTrue(bits.get(130), "Bit originally at 129 should now be at 130");
+
+    assertTrue(bits.remove(1), "remove(1) should return the inserted true");
+    for (int i = 0; i < 130; i++) {
+      assertEquals(i % 3 == 0, bits.get(i), "Bit " + i + " should be restored after remove");
+    }
+  }
+
+  @Test
+  @DisplayName("indexOf scans a word at a time for true and false")
+  void testIndexOf() {
+    for (int i = 0; i < 200; i++) {
+      bits.addLast(false);
+    }
+    bits.set(150, true);
+    assertEquals(150, bits.indexOf(true), "First true should be found past several empty words");
+    assertEquals(0, bits.indexOf(false), "First false should be at 0");
+    assertEquals(151, bits.indexOf(false, 150), "Next false after 150 should be 151");
+    assertEquals(-1, bits.indexOf(true, 151), "No true after 150");
+    assertEquals(-1, bits.indexOf(null), "indexOf(null) should return -1");
+
+    BooleanArrayList allTrue = fromString("111");
+    assertEquals(-1, allTrue.indexOf(false), "Unused bits past size must not be reported as false");
+  }
+
+  @Test
+  @DisplayName("count uses popcount")
+  void testCount() {
+    for (int i = 0; i < 100; i++) {
+      bits.addLast(i % 4 == 0);
+    }
+    assertEquals(25, bits.count(true), "Every fourth bit is true");
+    assertEquals(75, bits.count(false), "The rest are false");
+    bits.clear();
+    assertEquals(0, bits.count(true), "clear() should drop all set bits");
+  }
+
+  @Test
+  @DisplayName("and/or/xor combine lists word by word")
+  void testBulkOperations() {
+    BooleanArrayList a = fromString("1100");
+    a.and(fromString("1010"));
+    assertEquals("BooleanArrayList[Size=4, Capacity=128] 1000", a.toDetailedString(), "AND result");
+    a.or(fromString("0011"));
+    assertEquals("BooleanArrayList[Size=4, Capacity=128] 1011", a.toDetailedString(), "OR result");
+    a.xor(fromString("1111"));
+    assertEquals("BooleanArrayList[Size=4, Capacity=128] 0100", a.toDetailedString(), "XOR result");
+    assertThrows(IllegalArgumentException.class, () -> a.and(fromString("1")),
+        "Combining lists of different sizes should throw IllegalArgumentException");
+  }
+
+  @Test
+  @DisplayName("ListADT contract for nulls and empty lists")
+  void testExceptions() {
+    assertThrows(IllegalArgumentException.class, () -> bits.addLast(null),
+        "addLast(null) should throw IllegalArgumentException");
+    assertThrows(NoSuchElementException.class, () -> bits.removeFirst(),
+        "removeFirst() on empty list should throw NoSuchElementException");
+    assertThrows(IndexOutOfBoundsException.class, () -> bits.get(0),
+        "get(0) on empty list should throw IndexOutOfBoundsException");
+  }
+}
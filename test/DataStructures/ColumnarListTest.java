@@ -0,0 +1,126 @@
+package DataStructures;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+
+/**
+ * Unit tests for the ColumnarList class.
+ * Covers schema definition, row-wise flyweight access, column scans,
+ * removal shifting and type checking of field access.
+ */
+@DisplayName("ColumnarList Tests")
+class ColumnarListTest {
+  private static final int TS = 0;
+  private static final int QTY = 1;
+  private static final int PRICE = 2;
+
+  private ColumnarList trades;
+
+  @BeforeEach
+  void setUp() {
+    trades = new ColumnarList(new ColumnarList.Schema().addLong("ts").addInt("qty").addDouble("price"));
+  }
+
+  private void addTrade(long ts, int qty, double price) {
+    trades.addRow().setLong(TS, ts).setInt(QTY, qty).setDouble(PRICE, price);
+  }
+
+  @Test
+  @DisplayName("Schema resolves field names to positions")
+  void testSchemaLookup() {
+    ColumnarList.Schema schema = trades.schema();
+    assertEquals(3, schema.fieldCount(), "Schema should have three fields");
+    assertEquals(QTY, schema.indexOf("qty"), "'qty' should be field 1");
+    assertEquals(-1, schema.indexOf("missing"), "Unknown field should return -1");
+    assertEquals(ColumnarList.FieldType.DOUBLE, schema.typeOf(PRICE), "'price' should be a DOUBLE field");
+    assertThrows(IllegalArgumentException.class, () -> new ColumnarList.Schema().addInt("qty").addLong("qty"),
+        "Duplicate field names should be rejected");
+  }
+
+  @Test
+  @DisplayName("Rows written through a view read back through get()")
+  void testRowRoundTrip() {
+    addTrade(1000L, 5, 9.5);
+    addTrade(2000L, 7, 10.25);
+    assertEquals(2, trades.size(), "Two rows should be present");
+    ColumnarList.Row row = trades.get(1);
+    assertEquals(2000L, row.getLong(TS), "ts of row 1");
+    assertEquals(7, row.getInt(QTY), "qty of row 1");
+    assertEquals(10.25, row.getDouble(PRICE), "price of row 1");
+    assertEquals(5, row.moveTo(0).getInt(QTY), "Repositioned view should read row 0");
+  }
+
+  @Test
+  @DisplayName("The list's schema is a frozen copy")
+  void testSchemaFrozen() {
+    ColumnarList.Schema source = new ColumnarList.Schema().addInt("qty");
+    ColumnarList list = new ColumnarList(source);
+    source.addLong("ts");
+    assertEquals(1, list.schema().fieldCount(), "Changes to the source schema should not reach the list");
+    assertThrows(IllegalStateException.class, () -> list.schema().addInt("x"),
+        "The list's own schema should reject new fields");
+  }
+
+  @Test
+  @DisplayName("A cursor can be repositioned across rows")
+  void testCursor() {
+    addTrade(1L, 3, 1.0);
+    addTrade(2L, 4, 2.0);
+    ColumnarList.Row cursor = trades.cursor();
+    assertThrows(IndexOutOfBoundsException.class, () -> cursor.getInt(QTY),
+        "An unpositioned cursor should not read a row");
+    int total = 0;
+    for (int i = 0; i < trades.size(); i++) {
+      total += cursor.moveTo(i).getInt(QTY);
+    }
+    assertEquals(7, total, "Cursor should visit both rows");
+  }
+
+  @Test
+  @DisplayName("Column scans aggregate across growth")
+  void testColumnScans() {
+    for (int i = 0; i < 25; i++) {
+      addTrade(i, i, i * 0.5);
+    }
+    assertEquals(25, trades.size(), "All rows should survive growth");
+    assertEquals(300L, trades.sumLong(QTY), "Sum of qty 0..24");
+    assertEquals(300L, trades.sumLong(TS), "Sum of ts 0..24");
+    assertEquals(150.0, trades.sumDouble(PRICE), 1e-9, "Sum of price 0..12");
+    assertEquals(5, trades.countIfInt(QTY, q -> q >= 20), "Five rows have qty >= 20");
+    assertEquals(10, trades.countIfLong(TS, t -> t < 10), "Ten rows have ts < 10");
+    assertEquals(1, trades.countIfDouble(PRICE, p -> p == 12.0), "One row has price 12.0");
+  }
+
+  @Test
+  @DisplayName("remove(index) shifts every column")
+  void testRemoveShifts() {
+    addTrade(1L, 1, 1.0);
+    addTrade(2L, 2, 2.0);
+    addTrade(3L, 3, 3.0);
+    trades.remove(0);
+    assertEquals(2, trades.size(), "Size should be 2 after remove");
+    assertEquals(2L, trades.getLong(0, TS), "ts should shift down");
+    assertEquals(2, trades.getInt(0, QTY), "qty should shift down");
+    assertEquals(3.0, trades.getDouble(1, PRICE), "price should shift down");
+    trades.clear();
+    assertTrue(trades.isEmpty(), "List should be empty after clear()");
+    addTrade(9L, 9, 9.0);
+    assertEquals(9L, trades.sumLong(QTY), "Cleared rows should not leak into scans");
+  }
+
+  @Test
+  @DisplayName("Invalid access throws")
+  void testInvalidAccess() {
+    addTrade(1L, 1, 1.0);
+    assertThrows(IndexOutOfBoundsException.class, () -> trades.get(1),
+        "get(size) should throw IndexOutOfBoundsException");
+    assertThrows(IllegalArgumentException.class, () -> trades.getInt(0, PRICE),
+        "Reading a DOUBLE field as INT should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> trades.sumDouble(QTY),
+        "sumDouble over an INT field should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> trades.sumLong(7),
+        "Unknown field should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> new ColumnarList(new ColumnarList.Schema()),
+        "Empty schema should be rejected");
+  }
+}
@@ -0,0 +1,110 @@
+package DataStructures;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * Unit tests for the PriorityHeap class.
+ * Covers ordering for binary and wider fan-outs, in-place heapify, and
+ * decrease-key on an indexed heap.
+ */
+@DisplayName("PriorityHeap<T> Tests")
+class PriorityHeapTest {
+
+  private static void assertDrainsInOrder(PriorityHeap<Integer> heap, int expectedSize) {
+    assertEquals(expectedSize, heap.size(), "Heap size before draining");
+    int previous = Integer.MIN_VALUE;
+    for (int i = 0; i < expectedSize; i++) {
+      int next = heap.pop();
+      assertTrue(next >= previous, "pop() should return elements in ascending order");
+      previous = next;
+    }
+    assertTrue(heap.isEmpty(), "Heap should be empty after draining");
+  }
+
+  @Test
+  @DisplayName("push/pop return elements in priority order for several fan-outs")
+  void testPushPopOrder() {
+    for (int arity = 2; arity <= 8; arity *= 2) {
+      PriorityHeap<Integer> heap = new PriorityHeap<>(Comparator.naturalOrder(), arity, false);
+      java.util.Random random = new java.util.Random(arity);
+      for (int i = 0; i < 200; i++) {
+        heap.push(random.nextInt(50));
+      }
+      assertDrainsInOrder(heap, 200);
+    }
+  }
+
+  @Test
+  @DisplayName("peek returns the smallest element without removing it")
+  void testPeek() {
+    PriorityHeap<String> heap = new PriorityHeap<>(Comparator.naturalOrder());
+    heap.push("M");
+    heap.push("C");
+    heap.push("X");
+    assertEquals("C", heap.peek(), "peek() should return the smallest element");
+    assertEquals(3, heap.size(), "peek() should not remove anything");
+    assertTrue(heap.contains("X"), "contains() should find a pushed element");
+  }
+
+  @Test
+  @DisplayName("heapify reorders an existing ArrayList in place")
+  void testHeapify() {
+    ArrayList<Integer> list = new ArrayList<>();
+    for (int i = 30; i > 0; i--) {
+      list.addLast(i);
+    }
+    PriorityHeap<Integer> heap = PriorityHeap.heapify(list, Comparator.naturalOrder(), 4, false);
+    assertEquals(1, list.first(), "The list itself should now start with the smallest element");
+    assertDrainsInOrder(heap, 30);
+  }
+
+  @Test
+  @DisplayName("heapify handles empty and single-element lists for any fan-out")
+  void testHeapifyTinyLists() {
+    for (int arity = 2; arity <= 5; arity++) {
+      PriorityHeap<Integer> empty = PriorityHeap.heapify(new ArrayList<Integer>(), Comparator.naturalOrder(), arity, false);
+      assertTrue(empty.isEmpty(), "Heapifying an empty list should give an empty heap (arity " + arity + ")");
+
+      ArrayList<Integer> single = new ArrayList<>();
+      single.addLast(42);
+      PriorityHeap<Integer> one = PriorityHeap.heapify(single, Comparator.naturalOrder(), arity, true);
+      assertEquals(42, one.peek(), "The only element should be on top (arity " + arity + ")");
+    }
+  }
+
+  @Test
+  @DisplayName("decreaseKey moves an element up on an indexed heap")
+  void testDecreaseKey() {
+    PriorityHeap<Integer> heap = new PriorityHeap<>(Comparator.naturalOrder(), 3, true);
+    for (int i = 10; i <= 100; i += 10) {
+      heap.push(i);
+    }
+    heap.decreaseKey(70, 5);
+    assertFalse(heap.contains(70), "The replaced element should be gone");
+    assertTrue(heap.contains(5), "The replacement should be present");
+    assertEquals(5, heap.pop(), "The decreased element should pop first");
+    assertEquals(10, heap.peek(), "Remaining order should be intact");
+    assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(20, 25),
+        "Increasing a key should throw IllegalArgumentException");
+    assertThrows(NoSuchElementException.class, () -> heap.decreaseKey(70, 1),
+        "decreaseKey on a missing element should throw NoSuchElementException");
+    assertThrows(IllegalArgumentException.class, () -> heap.push(10),
+        "Pushing a duplicate into an indexed heap should throw IllegalArgumentException");
+  }
+
+  @Test
+  @DisplayName("Invalid usage throws")
+  void testInvalidUsage() {
+    PriorityHeap<Integer> heap = new PriorityHeap<>(Comparator.naturalOrder());
+    assertThrows(NoSuchElementException.class, heap::pop, "pop() on empty heap should throw NoSuchElementException");
+    assertThrows(NoSuchElementException.class, heap::peek, "peek() on empty heap should throw NoSuchElementException");
+    assertThrows(IllegalArgumentException.class, () -> heap.push(null), "push(null) should throw IllegalArgumentException");
+    assertThrows(IllegalStateException.class, () -> heap.decreaseKey(1, 0),
+        "decreaseKey on a non-indexed heap should throw IllegalStateException");
+    assertThrows(IllegalArgumentException.class, () -> new PriorityHeap<Integer>(Comparator.naturalOrder(), 1, false),
+        "Arity below 2 should be rejected");
+  }
+}
@@ -0,0 +1,81 @@
+package DataStructures;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.util.NoSuchElementException;
+
+/**
+ * Unit tests for the SmallList class.
+ * Covers inline storage for up to four elements, inflation past that
+ * threshold, and deflation after clear().
+ */
+@DisplayName("SmallList<T> Tests")
+class SmallListTest {
+  private SmallList<String> list;
+
+  @BeforeEach
+  void setUp() {
+    list = new SmallList<>();
+  }
+
+  @Test
+  @DisplayName("Up to four elements stay inline with ListADT semantics")
+  void testInlineOperations() {
+    list.addLast("B");
+    list.addFirst("A");
+    list.addLast("D");
+    list.add(2, "C"); // State: ["A", "B", "C", "D"]
+    assertTrue(list.isInline(), "Four elements should still be stored inline");
+    assertEquals(4, list.size(), "Size should be 4");
+    assertEquals("C", list.get(2), "'C' should be inserted at index 2");
+    assertEquals("B", list.remove(1), "remove(1) should return 'B'");
+    assertEquals("C", list.get(1), "'C' should shift to index 1");
+    assertEquals("D", list.last(), "'D' should be last");
+    assertEquals(2, list.indexOf("D"), "indexOf('D') should be 2");
+    assertEquals("A", list.set(0, "Z"), "set(0) should return the old 'A'");
+  }
+
+  @Test
+  @DisplayName("Fifth element inflates to a buffer that keeps growing")
+  void testInflation() {
+    for (int i = 0; i < 5; i++) {
+      list.addLast("E" + i);
+    }
+    assertFalse(list.isInline(), "Fifth element should inflate the list");
+    list.add(0, "X");
+    for (int i = 5; i < 20; i++) {
+      list.addLast("E" + i);
+    }
+    assertEquals(21, list.size(), "All elements should be present after growth");
+    assertEquals("X", list.first(), "'X' should be first");
+    assertEquals("E0", list.get(1), "'E0' should follow 'X'");
+    assertEquals("E19", list.removeLast(), "removeLast() should return 'E19'");
+    assertTrue(list.contains("E10"), "'E10' should be found in inflated storage");
+  }
+
+  @Test
+  @DisplayName("clear() deflates back to inline storage")
+  void testClearDeflates() {
+    for (int i = 0; i < 6; i++) {
+      list.addLast("E" + i);
+    }
+    list.clear();
+    assertTrue(list.isEmpty(), "List should be empty after clear()");
+    assertTrue(list.isInline(), "clear() should return the list to inline storage");
+    list.addLast("A");
+    assertEquals("A", list.get(0), "List should be usable after deflation");
+  }
+
+  @Test
+  @DisplayName("Exceptions follow ListADT")
+  void testExceptions() {
+    assertThrows(NoSuchElementException.class, () -> list.first(),
+        "first() on empty list should throw NoSuchElementException");
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(0),
+        "get(0) on empty list should throw IndexOutOfBoundsException");
+    assertThrows(IndexOutOfBoundsException.class, () -> list.add(1, "A"),
+        "add(1, A) on empty list should throw IndexOutOfBoundsException");
+    assertThrows(IllegalArgumentException.class, () -> list.addLast(null),
+        "addLast(null) should throw IllegalArgumentException");
+  }
+}
@@ -0,0 +1,138 @@
+package DataStructures;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.*;
+import java.util.NoSuchElementException;
+
+/**
+ * Unit tests for the UnrolledLinkedList class.
+ * Uses a small node capacity so that splits and merges happen after only a
+ * handful of operations.
+ */
+@DisplayName("UnrolledLinkedList<T> Tests")
+class UnrolledLinkedListTest {
+  private UnrolledLinkedList<Integer> list;
+
+  @BeforeEach
+  void setUp() {
+    list = new UnrolledLinkedList<>(4);
+  }
+
+  private void assertContents(java.util.List<Integer> expected) {
+    assertEquals(expected.size(), list.size(), "Size should match the expected contents");
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i), list.get(i), "Element at index " + i);
+    }
+  }
+
+  @Test
+  @DisplayName("addLast across many nodes keeps order")
+  void testAddLastAcrossNodes() {
+    java.util.List<Integer> expected = new java.util.ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      list.addLast(i);
+      expected.add(i);
+    }
+    assertContents(expected);
+    assertEquals(0, list.first(), "first() should be 0");
+    assertEquals(19, list.last(), "last() should be 19");
+  }
+
+  @Test
+  @DisplayName("Middle inserts split full nodes")
+  void testMiddleInsertsSplit() {
+    java.util.List<Integer> expected = new java.util.ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      list.addLast(i);
+      expected.add(i);
+    }
+    for (int i = 0; i < 10; i++) {
+      list.add(2, 100 + i);
+      expected.add(2, 100 + i);
+    }
+    assertContents(expected);
+    assertEquals(4, list.indexOf(107), "indexOf should count across node boundaries");
+  }
+
+  @Test
+  @DisplayName("Removals merge sparse nodes without losing elements")
+  void testRemovalsMerge() {
+    java.util.List<Integer> expected = new java.util.ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      list.addLast(i);
+      expected.add(i);
+    }
+    for (int i = 0; i < 12; i++) {
+      int index = (i * 5) % list.size();
+      assertEquals(expected.remove(index), list.remove(index), "remove(" + index + ") should return the same element");
+    }
+    assertContents(expected);
+  }
+
+  @Test
+  @DisplayName("Heavy deletes keep nodes at least a quarter full")
+  void testHeavyDeletesKeepNodesFull() {
+    UnrolledLinkedList<Integer> wide = new UnrolledLinkedList<>(64);
+    for (int i = 0; i < 64_000; i++) {
+      wide.addLast(i);
+    }
+    // Empty all but one slot of every other original node, back to front so earlier indices stay put.
+    // Each nearly empty node sits next to a full one, so merging alone would leave it holding one element.
+    for (int n = 999; n >= 0; n -= 2) {
+      for (int j = 0; j < 63; j++) {
+        wide.remove(n * 64);
+      }
+    }
+    assertEquals(32_500, wide.size(), "63 elements should be gone from each of 500 nodes");
+    int[] sizes = wide.nodeSizes();
+    assertTrue(sizes.length <= wide.size() / 16 + 1,
+        "Expected at most " + (wide.size() / 16 + 1) + " nodes, found " + sizes.length);
+    for (int n = 0; n < sizes.length - 1; n++) {
+      assertTrue(sizes[n] >= 16, "Node " + n + " holds only " + sizes[n] + " of 64 elements");
+    }
+    int index = 0;
+    for (int i = 0; i < 64_000; i++) {
+      if ((i / 64) % 2 == 0 || i % 64 == 63) {
+        assertEquals(i, wide.get(index++), "Element at index " + (index - 1));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Random mutations match java.util.ArrayList")
+  void testRandomMutations() {
+    java.util.Random random = new java.util.Random(7);
+    java.util.List<Integer> expected = new java.util.ArrayList<>();
+    for (int step = 0; step < 2000; step++) {
+      if (expected.isEmpty() || random.nextInt(3) > 0) {
+        int index = random.nextInt(expected.size() + 1);
+        list.add(index, step);
+        expected.add(index, step);
+      } else {
+        int index = random.nextInt(expected.size());
+        assertEquals(expected.remove(index), list.remove(index), "remove(" + index + ") at step " + step);
+      }
+    }
+    assertContents(expected);
+    assertEquals(expected.size(), list.view().count(), "view() should visit every element");
+  }
+
+  @Test
+  @DisplayName("set, clear and exceptions follow ListADT")
+  void testSetClearAndExceptions() {
+    list.addLast(1);
+    list.addLast(2);
+    assertEquals(2, list.set(1, 5), "set should return the old element");
+    assertEquals(5, list.get(1), "set should store the new element");
+    list.clear();
+    assertTrue(list.isEmpty(), "List should be empty after clear()");
+    assertThrows(NoSuchElementException.class, () -> list.removeFirst(),
+        "removeFirst() on empty list should throw NoSuchElementException");
+    assertThrows(IndexOutOfBoundsException.class, () -> list.add(1, 1),
+        "add(1, x) on empty list should throw IndexOutOfBoundsException");
+    assertThrows(IllegalArgumentException.class, () -> list.addLast(null),
+        "addLast(null) should throw IllegalArgumentException");
+    assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedList<Integer>(2),
+        "Node capacity below 4 should be rejected");
+  }
+}